@@ -220,7 +220,7 @@ Type=simple
 User=$APP_USER
 Group=$APP_USER
 WorkingDirectory=$APP_DIR
-ExecStart=/usr/bin/java -jar $APP_DIR/$JAR_NAME
+ExecStart=/usr/bin/java --add-modules jdk.incubator.vector -jar $APP_DIR/$JAR_NAME
 ExecReload=/bin/kill -HUP \$MAINPID
 Restart=always
 RestartSec=10
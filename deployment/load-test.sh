@@ -0,0 +1,87 @@
+#!/bin/bash
+
+# Load Test Script for Resume Builder
+# Runs the same load against the platform-thread and virtual-thread execution modes,
+# each on a 1 GB heap, and prints throughput and latency percentiles for both.
+#
+# Usage: ./deployment/load-test.sh [scenario] [users] [duration-seconds]
+#   scenario: analyze (default), blocks or generate
+# Needs a reachable database with the test user, as configured in .env
+
+set -e
+
+# Colors for output
+GREEN='\033[0;32m'
+YELLOW='\033[1;33m'
+RED='\033[0;31m'
+NC='\033[0m'
+
+print_status() {
+    echo -e "${GREEN}[INFO]${NC} $1"
+}
+
+print_warning() {
+    echo -e "${YELLOW}[WARNING]${NC} $1"
+}
+
+print_error() {
+    echo -e "${RED}[ERROR]${NC} $1"
+}
+
+# Configuration
+SCENARIO=${1:-analyze}
+USERS=${2:-200}
+DURATION=${3:-60}
+PORT=${LOAD_TEST_PORT:-8090}
+HEAP="-Xms1g -Xmx1g"
+PROJECT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+JAR="$PROJECT_DIR/target/resume-updater-1.0.0.jar"
+RESULTS_DIR="$PROJECT_DIR/target/load-test"
+
+cd "$PROJECT_DIR"
+mkdir -p "$RESULTS_DIR"
+
+if [ -f .env ]; then
+    set -a
+    . ./.env
+    set +a
+fi
+
+print_status "Building application..."
+mvn -B -q package -DskipTests
+
+run_mode() {
+    local mode=$1
+    local virtual=$2
+    local log="$RESULTS_DIR/app-$mode.log"
+
+    print_status "Starting application ($mode threads, $HEAP)..."
+    SERVER_PORT=$PORT SPRING_THREADS_VIRTUAL_ENABLED=$virtual \
+        java $HEAP -XX:+UseG1GC --add-modules jdk.incubator.vector -jar "$JAR" > "$log" 2>&1 &
+    local pid=$!
+
+    for i in $(seq 1 60); do
+        if curl -sf "http://localhost:$PORT/api/auth/health" > /dev/null; then
+            break
+        fi
+        if ! kill -0 $pid 2>/dev/null; then
+            print_error "Application exited during startup, see $log"
+            exit 1
+        fi
+        sleep 2
+    done
+
+    print_status "Running $SCENARIO with $USERS users for ${DURATION}s..."
+    mvn -B -q -Pbenchmarks,load-test test-compile exec:exec \
+        -Dload.args="--url http://localhost:$PORT/api --scenario $SCENARIO --users $USERS --duration $DURATION --label $mode" \
+        | tee "$RESULTS_DIR/$SCENARIO-$mode.txt" || print_warning "Load run for $mode failed"
+
+    kill $pid
+    wait $pid 2>/dev/null || true
+}
+
+run_mode platform false
+run_mode virtual true
+
+print_status "Results:"
+grep -h -E "req/s|p99" "$RESULTS_DIR/$SCENARIO-platform.txt" "$RESULTS_DIR/$SCENARIO-virtual.txt"
@@ -122,6 +122,10 @@ const api = axios.create({
   timeout: 120000, // 2 minutes timeout for complex operations
 });
 
+// Resume PDF jobs are polled for up to 3 minutes
+const RESUME_JOB_POLL_INTERVAL_MS = 1000;
+const RESUME_JOB_MAX_POLLS = 180;
+
 // Request interceptor for authentication and logging
 api.interceptors.request.use(
   (config) => {
@@ -405,16 +409,33 @@ class ApiService {
     }
   }
 
-  // Generate LaTeX resume
+  // Generate LaTeX resume. The PDF is compiled as a background job that is
+  // polled until it finishes, so no request stays open for the whole compile.
   async generateResume(
     request: GenerateResumeRequest
   ): Promise<GenerateResumeResponse> {
     try {
-      const response = await api.post<GenerateResumeResponse>(
-        "/resume/generate",
+      const submitted = await api.post<GenerateResumeResponse>(
+        "/resume/generate/jobs",
         request
       );
-      return response.data;
+      let job = submitted.data;
+      for (let attempt = 0; job.status === "Queued"; attempt++) {
+        if (attempt >= RESUME_JOB_MAX_POLLS) {
+          throw new Error("Timed out waiting for resume generation");
+        }
+        await new Promise((resolve) =>
+          setTimeout(resolve, RESUME_JOB_POLL_INTERVAL_MS)
+        );
+        const response = await api.get<GenerateResumeResponse>(
+          `/resume/generate/jobs/${job.jobId}`
+        );
+        job = response.data;
+      }
+      if (job.status === "Failed") {
+        throw new Error(job.message);
+      }
+      return job;
     } catch (error) {
       console.error("Error generating resume:", error);
       throw new Error("Failed to generate resume");
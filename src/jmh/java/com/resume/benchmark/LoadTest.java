@@ -0,0 +1,155 @@
+package com.resume.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop HTTP load generator for a running instance: a fixed number of users send requests
+ * back to back for a fixed duration, then throughput and latency percentiles are printed.
+ *
+ * mvn -Pbenchmarks,load-test test-compile exec:exec -Dload.args="--scenario analyze --users 200 --duration 60"
+ */
+public final class LoadTest {
+
+    private static final Pattern ACCESS_TOKEN = Pattern.compile("\"accessToken\"\\s*:\\s*\"([^\"]+)\"");
+
+    private LoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        String baseUrl = options.getOrDefault("url", "http://localhost:8080/api");
+        String scenario = options.getOrDefault("scenario", "analyze");
+        int users = Integer.parseInt(options.getOrDefault("users", "100"));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "60")));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+        String label = options.getOrDefault("label", scenario);
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        String token = login(client, baseUrl,
+                options.getOrDefault("user", "testuser"), options.getOrDefault("password", "test123"));
+        HttpRequest request = buildRequest(baseUrl, scenario, token);
+
+        System.out.printf("%s: %d users, %ds warmup, %ds measured against %s%n",
+                label, users, warmup.toSeconds(), duration.toSeconds(), baseUrl);
+        run(client, request, users, warmup, null);
+
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicLong errors = new AtomicLong();
+        long started = System.nanoTime();
+        run(client, request, users, duration, new Recorder(latencies, errors));
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+
+        report(label, latencies, errors.get(), elapsedSeconds);
+    }
+
+    private static void run(HttpClient client, HttpRequest request, int users, Duration duration, Recorder recorder)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < users; i++) {
+                executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        boolean ok;
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            ok = response.statusCode() < 400;
+                        } catch (Exception e) {
+                            ok = false;
+                        }
+                        if (recorder != null) {
+                            recorder.record(System.nanoTime() - start, ok);
+                        }
+                    }
+                });
+            }
+        }
+    }
+
+    private static void report(String label, List<Long> latencies, long errors, double elapsedSeconds) {
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        System.out.printf("%s: %d requests (%d errors) in %.1fs, %.1f req/s%n",
+                label, sorted.size() + errors, errors, elapsedSeconds, sorted.size() / elapsedSeconds);
+        if (!sorted.isEmpty()) {
+            System.out.printf("%s: p50 %.1f ms, p90 %.1f ms, p99 %.1f ms, max %.1f ms%n",
+                    label, percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99),
+                    sorted.get(sorted.size() - 1) / 1e6);
+        }
+    }
+
+    private static double percentile(List<Long> sorted, double percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index)) / 1e6;
+    }
+
+    private static String login(HttpClient client, String baseUrl, String user, String password) throws Exception {
+        String body = "{\"usernameOrEmail\":\"" + user + "\",\"password\":\"" + password + "\"}";
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = ACCESS_TOKEN.matcher(response.body());
+        if (response.statusCode() != 200 || !matcher.find()) {
+            throw new IllegalStateException("Login failed (" + response.statusCode() + "): " + response.body());
+        }
+        return matcher.group(1);
+    }
+
+    private static HttpRequest buildRequest(String baseUrl, String scenario, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .timeout(Duration.ofSeconds(120))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json");
+        return switch (scenario) {
+            // Database only
+            case "blocks" -> builder.uri(URI.create(baseUrl + "/resume/blocks")).GET().build();
+            // LLM, database and embedding ranking
+            case "analyze" -> builder.uri(URI.create(baseUrl + "/resume/analyze"))
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"jobDescription\":\"" + SyntheticResumes.jobDescription().replace("\"", "\\\"") + "\"}"))
+                    .build();
+            // LaTeX to PDF compilation
+            case "generate" -> builder.uri(URI.create(baseUrl + "/resume/generate"))
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"personalInfo\":{\"name\":\"Load Test\",\"email\":\"load@example.com\"},"
+                                    + "\"resumeData\":{\"experiences\":[],\"projects\":[]}}"))
+                    .build();
+            default -> throw new IllegalArgumentException("Unknown scenario: " + scenario + " (blocks, analyze, generate)");
+        };
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+        return options;
+    }
+
+    private record Recorder(List<Long> latencies, AtomicLong errors) {
+        void record(long nanos, boolean ok) {
+            if (ok) {
+                latencies.add(nanos);
+            } else {
+                errors.incrementAndGet();
+            }
+        }
+    }
+}
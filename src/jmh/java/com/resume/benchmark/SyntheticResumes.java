@@ -0,0 +1,153 @@
+package com.resume.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.resume.model.CertificationBlock;
+import com.resume.model.EducationBlock;
+import com.resume.model.ResumeBlock;
+import com.resume.model.ResumeData;
+import com.resume.model.SkillsBlock;
+
+/**
+ * Deterministic synthetic resume content for benchmarks. Half of the blocks are
+ * experiences and half are projects; bullets include LaTeX special characters and
+ * date ranges cover the formats users actually enter.
+ */
+public final class SyntheticResumes {
+
+    private static final String[] TECHNOLOGIES = {
+        "Java", "Spring Boot", "React", "TypeScript", "PostgreSQL", "Docker", "Kubernetes", "AWS",
+        "Python", "Kafka", "Redis", "GraphQL", "Node.js", "C++", "C#", "Terraform", "Jenkins", "gRPC"
+    };
+
+    private static final String[] WORDS = {
+        "designed", "implemented", "scalable", "microservices", "reduced", "latency", "pipeline",
+        "automated", "deployment", "migrated", "legacy", "monolith", "improved", "throughput",
+        "optimized", "queries", "dashboard", "customers", "team", "backend", "frontend", "API",
+        "integration", "testing", "coverage", "real-time", "analytics", "platform", "cloud", "cost"
+    };
+
+    private static final String[] DATE_RANGES = {
+        "2019-2021", "Jan 2020 - Dec 2022", "Jun 2021 - Present", "2023", "Aug. 2018 -- May 2020",
+        "March 2017 - April 2019", "Summer 2022", ""
+    };
+
+    private SyntheticResumes() {}
+
+    /**
+     * Generate experience and project blocks, blockCount in total
+     */
+    public static List<ResumeBlock> blocks(int blockCount) {
+        Random random = new Random(blockCount);
+        List<ResumeBlock> blocks = new ArrayList<>(blockCount);
+        for (int i = 0; i < blockCount; i++) {
+            blocks.add(i % 2 == 0 ? experience(i, random) : project(i, random));
+        }
+        return blocks;
+    }
+
+    /**
+     * Generate a full ResumeData with blockCount experiences and projects plus skills, education and certifications
+     */
+    public static ResumeData resumeData(int blockCount) {
+        List<ResumeBlock> experiences = new ArrayList<>();
+        List<ResumeBlock> projects = new ArrayList<>();
+        for (ResumeBlock block : blocks(blockCount)) {
+            if (block.getCompany() != null) {
+                experiences.add(block);
+            } else {
+                projects.add(block);
+            }
+        }
+
+        ResumeData data = new ResumeData(experiences, projects);
+        data.setSkills(List.of(
+            new SkillsBlock("skills-languages", "Languages", List.of("Java", "TypeScript", "C++", "C#", "Python", "SQL")),
+            new SkillsBlock("skills-tools", "Tools & Platforms", List.of("Docker", "Kubernetes", "AWS", "Git & GitHub"))
+        ));
+        data.setEducation(List.of(
+            new EducationBlock("1", "Master of Computer Science", "State University", "Aug. 2023 -- May 2025", "4.0/4.0", "Raleigh, NC")
+        ));
+        data.setCertifications(List.of(
+            new CertificationBlock("1", "AWS Certified Developer", "Amazon", "2024-01-01", "https://example.com/cert")
+        ));
+        return data;
+    }
+
+    /**
+     * A job description of roughly 300 words drawn from the same vocabulary as the blocks
+     */
+    public static String jobDescription() {
+        Random random = new Random(7);
+        StringBuilder text = new StringBuilder("We are hiring a software engineer to build our platform. ");
+        for (int i = 0; i < 300; i++) {
+            text.append(random.nextInt(4) == 0 ? pick(random, TECHNOLOGIES) : pick(random, WORDS)).append(' ');
+        }
+        return text.toString().trim();
+    }
+
+    /**
+     * Date range strings in the formats accepted by the experience sort
+     */
+    public static List<String> dateRanges(int count) {
+        Random random = new Random(count);
+        List<String> ranges = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ranges.add(pick(random, DATE_RANGES));
+        }
+        return ranges;
+    }
+
+    private static ResumeBlock experience(int index, Random random) {
+        return new ResumeBlock(
+            String.valueOf(index),
+            "Software Engineer " + index,
+            "Company #" + index + " & Co.",
+            "City " + index + ", ST",
+            pick(random, DATE_RANGES),
+            tags(random),
+            lines(random),
+            5
+        );
+    }
+
+    private static ResumeBlock project(int index, Random random) {
+        List<String> tags = tags(random);
+        return new ResumeBlock(
+            String.valueOf(index),
+            "Project_" + index,
+            String.join(", ", tags),
+            index % 3 == 0 ? "https://github.com/example/project-" + index : null,
+            tags,
+            lines(random),
+            5
+        );
+    }
+
+    private static List<String> tags(Random random) {
+        List<String> tags = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            tags.add(pick(random, TECHNOLOGIES));
+        }
+        return tags;
+    }
+
+    private static List<String> lines(Random random) {
+        List<String> lines = new ArrayList<>();
+        for (int line = 0; line < 4; line++) {
+            StringBuilder text = new StringBuilder();
+            for (int word = 0; word < 20; word++) {
+                text.append(random.nextInt(5) == 0 ? pick(random, TECHNOLOGIES) : pick(random, WORDS)).append(' ');
+            }
+            text.append("by ").append(random.nextInt(90) + 10).append("% & saved $").append(random.nextInt(900) + 100).append("K");
+            lines.add(text.toString());
+        }
+        return lines;
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,57 @@
+package com.resume.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.resume.benchmark.SyntheticResumes;
+import com.resume.model.ResumeBlock;
+
+/**
+ * Building the embedding text for every block, which happens on each analyze call for cache lookups
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BlockTextBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int blockCount;
+
+    private final ResumeBlockEmbedder embedder = new ResumeBlockEmbedder();
+    private List<ResumeBlock> blocks;
+
+    @Setup
+    public void setUp() {
+        blocks = SyntheticResumes.blocks(blockCount);
+    }
+
+    @Benchmark
+    public void generateBlockText(Blackhole blackhole) {
+        for (ResumeBlock block : blocks) {
+            blackhole.consume(embedder.generateBlockText(block));
+        }
+    }
+
+    @Benchmark
+    public void generateBlockTextAndHash(Blackhole blackhole) {
+        for (ResumeBlock block : blocks) {
+            blackhole.consume(BlockEmbeddingStore.contentHash(embedder.generateBlockText(block)));
+        }
+    }
+}
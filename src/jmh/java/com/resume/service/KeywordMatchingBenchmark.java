@@ -0,0 +1,78 @@
+package com.resume.service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.resume.benchmark.SyntheticResumes;
+import com.resume.model.ResumeBlock;
+
+/**
+ * Keyword fallback scoring over a whole resume, as ResumeBlockEmbedder does when embeddings fail
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KeywordMatchingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int blockCount;
+
+    private final KeywordMatchingService keywordService = new KeywordMatchingService();
+    private List<ResumeBlock> blocks;
+    private String jobDescription;
+    private Set<String> keywords;
+
+    @Setup
+    public void setUp() {
+        blocks = SyntheticResumes.blocks(blockCount);
+        jobDescription = SyntheticResumes.jobDescription();
+        keywords = keywordService.extractKeywords(jobDescription);
+        // Warm the persistent index so indexedWarm measures scoring only
+        keywordService.calculateScores("benchmark", blocks, keywords);
+    }
+
+    @Benchmark
+    public double calculateScoreFromJobDescription() {
+        double total = 0.0;
+        for (ResumeBlock block : blocks) {
+            total += keywordService.calculateScore(block, jobDescription);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double calculateScoreFromKeywords() {
+        double total = 0.0;
+        for (ResumeBlock block : blocks) {
+            total += keywordService.calculateScore(block, keywords);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public List<Double> indexedWarm() {
+        return keywordService.calculateScores("benchmark", blocks, keywords);
+    }
+
+    @Benchmark
+    public List<Double> indexedCold() {
+        // Builds a throwaway index each call, as the first analyze for a user does
+        return keywordService.calculateScores(null, blocks, keywords);
+    }
+}
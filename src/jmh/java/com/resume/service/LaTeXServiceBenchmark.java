@@ -0,0 +1,65 @@
+package com.resume.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.resume.benchmark.SyntheticResumes;
+import com.resume.model.ResumeBlock;
+import com.resume.model.ResumeData;
+
+/**
+ * Resume rendering and the escaping applied to every field
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LaTeXServiceBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int blockCount;
+
+    private final LaTeXService latexService = new LaTeXService();
+    private ResumeData resumeData;
+    private List<String> fields;
+
+    @Setup
+    public void setUp() {
+        resumeData = SyntheticResumes.resumeData(blockCount);
+        fields = new ArrayList<>();
+        for (ResumeBlock block : SyntheticResumes.blocks(blockCount)) {
+            fields.add(block.getTitle());
+            fields.addAll(block.getLines());
+            fields.addAll(block.getTags());
+        }
+    }
+
+    @Benchmark
+    public String generateResume() {
+        return latexService.generateResume(resumeData, "Jane Doe", "jane_doe@example.com", "+1 (555) 010-0000",
+                "Raleigh, NC", "linkedin.com/in/jane-doe", "https://jane.dev");
+    }
+
+    @Benchmark
+    public void escapeLatex(Blackhole blackhole) {
+        for (String field : fields) {
+            blackhole.consume(latexService.escapeLatex(field));
+        }
+    }
+}
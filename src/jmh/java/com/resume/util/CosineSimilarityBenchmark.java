@@ -0,0 +1,72 @@
+package com.resume.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.resume.model.EmbeddingVector;
+
+/**
+ * Compares the original List<Double> cosine with the float[] scalar and SIMD kernels
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class CosineSimilarityBenchmark {
+
+    @Param({"256", "1536", "3072"})
+    private int dimensions;
+
+    private List<Double> boxed1;
+    private List<Double> boxed2;
+    private EmbeddingVector vector1;
+    private EmbeddingVector vector2;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        float[] values1 = new float[dimensions];
+        float[] values2 = new float[dimensions];
+        boxed1 = new ArrayList<>(dimensions);
+        boxed2 = new ArrayList<>(dimensions);
+        for (int i = 0; i < dimensions; i++) {
+            values1[i] = (float) random.nextGaussian();
+            values2[i] = (float) random.nextGaussian();
+            boxed1.add((double) values1[i]);
+            boxed2.add((double) values2[i]);
+        }
+        vector1 = EmbeddingVector.wrap(values1).normalized();
+        vector2 = EmbeddingVector.wrap(values2).normalized();
+    }
+
+    @Benchmark
+    public double boxedList() {
+        return CosineSimilarityUtil.cosineSimilarity(boxed1, boxed2);
+    }
+
+    @Benchmark
+    public double scalarFloatArray() {
+        return SimilarityKernel.scalarDot(vector1.values(), vector2.values());
+    }
+
+    @Benchmark
+    public double kernel() {
+        return SimilarityKernel.cosine(vector1, vector2);
+    }
+}
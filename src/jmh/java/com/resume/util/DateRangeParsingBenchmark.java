@@ -0,0 +1,122 @@
+package com.resume.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.resume.benchmark.SyntheticResumes;
+import com.resume.util.DateRangeParser.DateRange;
+
+/**
+ * Date range parsing used by the experience date sort, per string and inside a full sort.
+ * legacy* runs the former per-call String.matches end-year extraction for comparison;
+ * parseUncached isolates the precompiled patterns from the memoization cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DateRangeParsingBenchmark {
+
+    private static final Comparator<String> LATEST_FIRST = Comparator.comparing(
+            DateRangeParser::parse, DateRangeParser.LATEST_FIRST);
+
+    @Param({"10", "100", "1000"})
+    private int blockCount;
+
+    private List<String> dateRanges;
+
+    @Setup
+    public void setUp() {
+        dateRanges = SyntheticResumes.dateRanges(blockCount);
+    }
+
+    @Benchmark
+    public int legacyExtractEndYear() {
+        int sum = 0;
+        for (String dateRange : dateRanges) {
+            sum += legacyEndYear(dateRange);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int parseUncached() {
+        int sum = 0;
+        for (String dateRange : dateRanges) {
+            sum += endYear(DateRangeParser.parseUncached(dateRange));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int parse() {
+        int sum = 0;
+        for (String dateRange : dateRanges) {
+            sum += endYear(DateRangeParser.parse(dateRange));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public List<String> legacySortByEndYear() {
+        List<String> sorted = new ArrayList<>(dateRanges);
+        sorted.sort((d1, d2) -> Integer.compare(legacyEndYear(d2), legacyEndYear(d1)));
+        return sorted;
+    }
+
+    @Benchmark
+    public List<String> sortLatestFirst() {
+        List<String> sorted = new ArrayList<>(dateRanges);
+        sorted.sort(LATEST_FIRST);
+        return sorted;
+    }
+
+    private static int endYear(DateRange range) {
+        return range.end() != null ? range.end().getYear() : 0;
+    }
+
+    /**
+     * End-year extraction as ResumeBlockService and ExperienceService did it before DateRangeParser
+     */
+    private static int legacyEndYear(String dateRange) {
+        if (dateRange == null || dateRange.trim().isEmpty()) {
+            return 0;
+        }
+
+        String[] patterns = {
+            "\\d{4}-\\d{4}",
+            "\\d{4}",
+            "\\w+\\s+\\d{4}\\s*-\\s*\\w+\\s+\\d{4}",
+            "\\w+\\s+\\d{4}\\s*-\\s*Present",
+            "\\w+\\s+\\d{4}\\s*-\\s*\\w+\\s+\\d{4}"
+        };
+
+        for (String pattern : patterns) {
+            if (dateRange.matches(".*" + pattern + ".*")) {
+                String[] parts = dateRange.split("\\D+");
+                for (int i = parts.length - 1; i >= 0; i--) {
+                    if (parts[i].length() == 4) {
+                        return Integer.parseInt(parts[i]);
+                    }
+                }
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,67 @@
+package com.resume.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.resume.model.EmbeddingVector;
+
+/**
+ * Scoring one job embedding against every block embedding of a resume (1536 dimensions)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class SimilarityRankingBenchmark {
+
+    private static final int DIMENSIONS = 1536;
+
+    @Param({"10", "100", "1000"})
+    private int blockCount;
+
+    private EmbeddingVector jobVector;
+    private List<EmbeddingVector> blockVectors;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(blockCount);
+        jobVector = randomVector(random);
+        blockVectors = new ArrayList<>(blockCount);
+        for (int i = 0; i < blockCount; i++) {
+            blockVectors.add(randomVector(random));
+        }
+    }
+
+    @Benchmark
+    public double scoreAllBlocks() {
+        double best = -1.0;
+        for (EmbeddingVector blockVector : blockVectors) {
+            best = Math.max(best, CosineSimilarityUtil.safeCosineSimilarity(jobVector, blockVector));
+        }
+        return best;
+    }
+
+    private static EmbeddingVector randomVector(Random random) {
+        float[] values = new float[DIMENSIONS];
+        for (int i = 0; i < DIMENSIONS; i++) {
+            values[i] = (float) random.nextGaussian();
+        }
+        return EmbeddingVector.wrap(values).normalized();
+    }
+}
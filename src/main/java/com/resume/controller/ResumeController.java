@@ -5,20 +5,28 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.resume.model.*;
 import com.resume.service.*;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import jakarta.validation.Valid;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -34,12 +42,21 @@ public class ResumeController {
     @Autowired
     private ResumeBlockService resumeBlockService;
 
+    @Autowired
+    private JobAnalysisService jobAnalysisService;
+
     @Autowired
     private LaTeXService latexService;
 
     @Autowired
     private PDFService pdfService;
 
+    @Autowired
+    private PdfCompileScheduler pdfCompileScheduler;
+
+    @Autowired
+    private PdfJobService pdfJobService;
+
     @Autowired
     private PersonalInfoService personalInfoService;
 
@@ -108,67 +125,33 @@ public class ResumeController {
     }
 
     @PostMapping("/analyze")
-    public ResponseEntity<JobAnalysisResponse> analyzeJobDescription(@Valid @RequestBody JobDescriptionRequest request) {
-        try {
-            String username = getCurrentUsername();
-            
-            // Get LLM analysis of job description
-            String llmResponse = llmService.analyzeJobDescription(request.getJobDescription());
-            
-            // Parse LLM response to extract skills, technologies, and keywords
-            Map<String, Object> llmAnalysis = parseLLMResponse(llmResponse);
+    public CompletableFuture<ResponseEntity<JobAnalysisResponse>> analyzeJobDescription(@Valid @RequestBody JobDescriptionRequest request) {
+        String username = getCurrentUsername();
         
-            // Load all resume blocks from database for current user
-            ResumeData allBlocks = resumeBlockService.loadResumeBlocks(username);
-            
-            // Use vector embeddings to select top experiences and projects
-            // Pass the full job description for semantic matching
-            var selectedExperiences = resumeBlockService.selectTopExperiences(
-                allBlocks.getExperiences(), 
-                request.getJobDescription()
-            );
-            var selectedProjects = resumeBlockService.selectTopProjects(
-                allBlocks.getProjects(), 
-                request.getJobDescription()
-                );
-                
-            // Create selected resume data
-            ResumeData selectedResumeData = new ResumeData();
-            selectedResumeData.setExperiences(selectedExperiences);
-            selectedResumeData.setProjects(selectedProjects);
-            selectedResumeData.setSkills(allBlocks.getSkills()); // Include skills in analysis
-            selectedResumeData.setEducation(allBlocks.getEducation()); // Include education in analysis
-                
-            // Get personal information from database
-            PersonalInfo personalInfo = personalInfoService.getPersonalInfo(username);
-            String candidateName = personalInfo != null ? personalInfo.getName() : "Unknown";
-            String candidateEmail = personalInfo != null ? personalInfo.getEmail() : "";
-            String candidatePhone = personalInfo != null ? personalInfo.getPhone() : "";
-            String candidateLocation = personalInfo != null ? personalInfo.getLocation() : "";
-            String candidateLinkedIn = personalInfo != null ? personalInfo.getLinkedin() : "";
-            String candidatePortfolio = personalInfo != null ? personalInfo.getPortfolio() : "";
-
-            // Generate LaTeX resume
-            String latexContent = latexService.generateResume(
-                selectedResumeData, candidateName, candidateEmail, candidatePhone,
-                candidateLocation, candidateLinkedIn, candidatePortfolio
-            );
-
-            // Create dynamic analysis result from LLM response
-            JobAnalysisResponse.AnalysisResult analysis = createAnalysisFromLLMResponse(llmAnalysis, selectedExperiences, selectedProjects);
-
-            // Create and return structured response
-            JobAnalysisResponse response = new JobAnalysisResponse(
-                selectedExperiences,
-                selectedProjects,
-                analysis,
-                latexContent
-            );
-            
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError().build();
-        }
+        // LLM analysis, resume loading/ranking and personal info run concurrently; the servlet
+        // thread is released until the analysis completes
+        return jobAnalysisService.analyzeAsync(username, request.getJobDescription())
+                .thenApply(result -> {
+                    // Parse LLM response to extract skills, technologies, and keywords
+                    Map<String, Object> llmAnalysis = parseLLMResponse(result.llmResponse());
+                    
+                    List<ResumeBlock> selectedExperiences = result.selectedResumeData().getExperiences();
+                    List<ResumeBlock> selectedProjects = result.selectedResumeData().getProjects();
+
+                    // Create dynamic analysis result from LLM response
+                    JobAnalysisResponse.AnalysisResult analysis = createAnalysisFromLLMResponse(llmAnalysis, selectedExperiences, selectedProjects);
+
+                    // Create and return structured response
+                    JobAnalysisResponse response = new JobAnalysisResponse(
+                        selectedExperiences,
+                        selectedProjects,
+                        analysis,
+                        result.latexContent()
+                    );
+                    
+                    return ResponseEntity.ok(response);
+                })
+                .exceptionally(e -> ResponseEntity.internalServerError().build());
     }
 
     /**
@@ -362,21 +345,7 @@ public class ResumeController {
     @PostMapping("/generate")
     public ResponseEntity<GenerateResumeResponse> generateResume(@Valid @RequestBody GenerateResumeRequest request) {
         try {
-            ResumeData resumeData = new ResumeData();
-            resumeData.setExperiences(request.getExperiences());
-            resumeData.setProjects(request.getProjects());
-            
-            // Extract skills, education, and certifications from the request if available
-            if (request.getResumeData() != null) {
-                resumeData.setSkills(request.getResumeData().getSkills());
-                resumeData.setEducation(request.getResumeData().getEducation());
-                resumeData.setCertifications(request.getResumeData().getCertifications());
-            }
-
-            String latexContent = latexService.generateResume(
-                resumeData, request.getCandidateName(), request.getCandidateEmail(), request.getCandidatePhone(),
-                request.getCandidateLocation(), request.getCandidateLinkedIn(), request.getCandidatePortfolio()
-            );
+            String latexContent = generateResumeLatex(request);
             
             
             // Generate PDF
@@ -396,56 +365,96 @@ public class ResumeController {
         }
     }
 
-    @GetMapping("/pdf/{fileName}")
-    public ResponseEntity<Resource> downloadPDF(@PathVariable String fileName) {
+    @PostMapping("/generate/jobs")
+    public ResponseEntity<GenerateResumeResponse> submitResumeJob(@Valid @RequestBody GenerateResumeRequest request) {
         try {
-            Resource resource = pdfService.loadPDFAsResource(fileName);
-            return ResponseEntity.ok()
-                .header("Content-Type", "application/pdf")
-                .header("Content-Disposition", "attachment; filename=\"" + fileName + "\"")
-                .body(resource);
+            String latexContent = generateResumeLatex(request);
+            PdfJobService.PdfJob job = pdfJobService.submit(getCurrentUsername(), latexContent, request.getCandidateName());
+            return ResponseEntity.accepted()
+                .header(HttpHeaders.LOCATION, "/api/resume/generate/jobs/" + job.getJobId())
+                .body(job.toResponse());
         } catch (IOException e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @GetMapping("/generate/jobs/{jobId}")
+    public ResponseEntity<GenerateResumeResponse> getResumeJob(@PathVariable String jobId) {
+        PdfJobService.PdfJob job = pdfJobService.getJob(getCurrentUsername(), jobId);
+        if (job == null) {
             return ResponseEntity.notFound().build();
         }
+        return ResponseEntity.ok(job.toResponse());
     }
 
-    @GetMapping("/pdf/preview/{fileName}")
-    public ResponseEntity<Resource> previewPDF(@PathVariable String fileName) {
-        try {
-            Resource resource = pdfService.loadPDFAsResource(fileName);
-            return ResponseEntity.ok()
-                .header("Content-Type", "application/pdf")
-                .header("Content-Disposition", "inline; filename=\"" + fileName + "\"")
-                .body(resource);
-        } catch (IOException e) {
+    @GetMapping(value = "/generate/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamResumeJob(@PathVariable String jobId) {
+        PdfJobService.PdfJob job = pdfJobService.getJob(getCurrentUsername(), jobId);
+        if (job == null) {
             return ResponseEntity.notFound().build();
         }
+        SseEmitter emitter = new SseEmitter();
+        // One event when the job finishes, then the stream closes
+        job.completion().thenAccept(response -> {
+            try {
+                emitter.send(SseEmitter.event()
+                    .id(response.getJobId())
+                    .name(response.getStatus().toLowerCase())
+                    .data(response, MediaType.APPLICATION_JSON));
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                // Client went away or the emitter already timed out
+                emitter.completeWithError(e);
+            }
+        });
+        return ResponseEntity.ok()
+            .header("X-Accel-Buffering", "no")
+            .body(emitter);
+    }
+
+    @GetMapping("/pdf/{fileName}")
+    public ResponseEntity<Resource> downloadPDF(@PathVariable String fileName) {
+        return servePDF(fileName, "attachment", CacheControl.noCache().cachePrivate(), false);
+    }
+
+    @GetMapping("/pdf/preview/{fileName}")
+    public ResponseEntity<Resource> previewPDF(@PathVariable String fileName) {
+        return servePDF(fileName, "inline", CacheControl.noCache().cachePrivate(), false);
     }
 
     @GetMapping("/pdf/public/{fileName}")
     public ResponseEntity<Resource> publicPreviewPDF(@PathVariable String fileName) {
-        try {
-            Resource resource = pdfService.loadPDFAsResource(fileName);
-            return ResponseEntity.ok()
-                .header("Content-Type", "application/pdf")
-                .header("Content-Disposition", "inline; filename=\"" + fileName + "\"")
-                .header("Cache-Control", "public, max-age=3600")
-                .body(resource);
-        } catch (IOException e) {
-            return ResponseEntity.notFound().build();
-        }
+        return servePDF(fileName, "inline", CacheControl.maxAge(Duration.ofHours(1)).cachePublic(), false);
     }
 
     @GetMapping("/pdf/embed/{fileName}")
     public ResponseEntity<Resource> embedPDF(@PathVariable String fileName) {
+        return servePDF(fileName, "inline", CacheControl.maxAge(Duration.ofHours(1)).cachePublic(), true);
+    }
+
+    /**
+     * Serve a generated PDF with ETag and Last-Modified validators. Spring answers matching
+     * conditional requests with 304 and Range requests with 206 partial content.
+     */
+    private ResponseEntity<Resource> servePDF(String fileName, String disposition, CacheControl cacheControl, boolean embeddable) {
         try {
-            Resource resource = pdfService.loadPDFAsResource(fileName);
-            return ResponseEntity.ok()
-                .header("Content-Type", "application/pdf")
-                .header("Content-Disposition", "inline; filename=\"" + fileName + "\"")
-                .header("X-Frame-Options", "SAMEORIGIN")
-                .header("Cache-Control", "public, max-age=3600")
-                .body(resource);
+            PDFService.PdfFile pdfFile = pdfService.getPdfFile(fileName);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_PDF)
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition + "; filename=\"" + fileName + "\"")
+                .eTag(pdfFile.etag())
+                .lastModified(pdfFile.lastModified())
+                .cacheControl(cacheControl);
+            if (embeddable) {
+                response.header("X-Frame-Options", "SAMEORIGIN");
+            }
+            
+            String accelRedirect = pdfService.getAccelRedirect(pdfFile);
+            if (accelRedirect != null) {
+                // nginx sends the bytes with sendfile and handles ranges; 304s are still answered here
+                return response.header("X-Accel-Redirect", accelRedirect).build();
+            }
+            return response.body(new FileSystemResource(pdfFile.path()));
         } catch (IOException e) {
             return ResponseEntity.notFound().build();
         }
@@ -453,12 +462,11 @@ public class ResumeController {
 
     // Cache management endpoints
     @GetMapping("/cache/stats")
-    public ResponseEntity<String> getCacheStats() {
+    public ResponseEntity<EmbeddingCacheStats> getCacheStats() {
         try {
-            int cacheSize = resumeBlockService.getEmbeddingCacheSize();
-            return ResponseEntity.ok("Embedding cache size: " + cacheSize);
+            return ResponseEntity.ok(resumeBlockService.getEmbeddingCacheStats());
         } catch (Exception e) {
-            return ResponseEntity.internalServerError().body("Error getting cache stats: " + e.getMessage());
+            return ResponseEntity.internalServerError().build();
         }
     }
 
@@ -472,6 +480,13 @@ public class ResumeController {
         }
     }
 
+    @GetMapping("/pdf/queue/stats")
+    public ResponseEntity<PdfQueueStats> getPDFQueueStats() {
+        PdfQueueStats stats = pdfCompileScheduler.getStats();
+        stats.setPhaseAverageMs(pdfService.getPhaseTimings());
+        return ResponseEntity.ok(stats);
+    }
+
     // PDF service status endpoints
     @GetMapping("/pdf/status")
     public ResponseEntity<String> getPDFServiceStatus() {
@@ -495,6 +510,31 @@ public class ResumeController {
         }
     }
 
+    @ExceptionHandler(PdfCompileRejectedException.class)
+    public ResponseEntity<String> handleCompileRejected(PdfCompileRejectedException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+            .body(e.getMessage());
+    }
+
+    private String generateResumeLatex(GenerateResumeRequest request) {
+        ResumeData resumeData = new ResumeData();
+        resumeData.setExperiences(request.getExperiences());
+        resumeData.setProjects(request.getProjects());
+        
+        // Extract skills, education, and certifications from the request if available
+        if (request.getResumeData() != null) {
+            resumeData.setSkills(request.getResumeData().getSkills());
+            resumeData.setEducation(request.getResumeData().getEducation());
+            resumeData.setCertifications(request.getResumeData().getCertifications());
+        }
+
+        return latexService.generateResume(
+            resumeData, request.getCandidateName(), request.getCandidateEmail(), request.getCandidatePhone(),
+            request.getCandidateLocation(), request.getCandidateLinkedIn(), request.getCandidatePortfolio()
+        );
+    }
+
     // Cover letter helper methods
     private String buildCandidateBackground(ResumeData resumeData, PersonalInfo personalInfo) {
         StringBuilder background = new StringBuilder();
@@ -0,0 +1,113 @@
+package com.resume.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "block_embeddings")
+public class BlockEmbedding {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "block_id", nullable = false)
+    private String blockId;
+    
+    @Column(name = "model", nullable = false)
+    private String model;
+    
+    // SHA-256 of the block text that was embedded
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+    
+    @Column(name = "dimensions", nullable = false)
+    private Integer dimensions;
+    
+    // Packed little-endian float32 values
+    @Column(name = "embedding", nullable = false)
+    private byte[] embedding;
+    
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+    
+    // Default constructor
+    public BlockEmbedding() {
+        this.createdAt = LocalDateTime.now();
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getBlockId() {
+        return blockId;
+    }
+    
+    public void setBlockId(String blockId) {
+        this.blockId = blockId;
+    }
+    
+    public String getModel() {
+        return model;
+    }
+    
+    public void setModel(String model) {
+        this.model = model;
+    }
+    
+    public String getContentHash() {
+        return contentHash;
+    }
+    
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+    
+    public Integer getDimensions() {
+        return dimensions;
+    }
+    
+    public void setDimensions(Integer dimensions) {
+        this.dimensions = dimensions;
+    }
+    
+    public byte[] getEmbedding() {
+        return embedding;
+    }
+    
+    public void setEmbedding(byte[] embedding) {
+        this.embedding = embedding;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    @Override
+    public String toString() {
+        return "BlockEmbedding{" +
+                "id=" + id +
+                ", blockId='" + blockId + '\'' +
+                ", model='" + model + '\'' +
+                ", contentHash='" + contentHash + '\'' +
+                ", dimensions=" + dimensions +
+                ", createdAt=" + createdAt +
+                '}';
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,120 @@
+package com.resume.model;
+
+public class EmbeddingCacheStats {
+    
+    // Number of embeddings held in memory (kept for clients that read the old cache size)
+    private long cacheSize;
+    
+    // In-process cache tier
+    private TierStats memory;
+    
+    // PostgreSQL embedding store tier
+    private TierStats store;
+    
+    // Constructors
+    public EmbeddingCacheStats() {}
+    
+    public EmbeddingCacheStats(TierStats memory, TierStats store) {
+        this.cacheSize = memory != null ? memory.getEntries() : 0;
+        this.memory = memory;
+        this.store = store;
+    }
+    
+    // Getters and Setters
+    public long getCacheSize() {
+        return cacheSize;
+    }
+    
+    public void setCacheSize(long cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+    
+    public TierStats getMemory() {
+        return memory;
+    }
+    
+    public void setMemory(TierStats memory) {
+        this.memory = memory;
+    }
+    
+    public TierStats getStore() {
+        return store;
+    }
+    
+    public void setStore(TierStats store) {
+        this.store = store;
+    }
+    
+    public static class TierStats {
+        private long entries;
+        private long hits;
+        private long misses;
+        private long evictions;
+        private long weightBytes;
+        private long maxWeightBytes;
+        
+        public TierStats() {}
+        
+        public TierStats(long entries, long hits, long misses, long evictions, long weightBytes, long maxWeightBytes) {
+            this.entries = entries;
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.weightBytes = weightBytes;
+            this.maxWeightBytes = maxWeightBytes;
+        }
+        
+        public long getEntries() {
+            return entries;
+        }
+        
+        public void setEntries(long entries) {
+            this.entries = entries;
+        }
+        
+        public long getHits() {
+            return hits;
+        }
+        
+        public void setHits(long hits) {
+            this.hits = hits;
+        }
+        
+        public long getMisses() {
+            return misses;
+        }
+        
+        public void setMisses(long misses) {
+            this.misses = misses;
+        }
+        
+        public long getEvictions() {
+            return evictions;
+        }
+        
+        public void setEvictions(long evictions) {
+            this.evictions = evictions;
+        }
+        
+        public long getWeightBytes() {
+            return weightBytes;
+        }
+        
+        public void setWeightBytes(long weightBytes) {
+            this.weightBytes = weightBytes;
+        }
+        
+        public long getMaxWeightBytes() {
+            return maxWeightBytes;
+        }
+        
+        public void setMaxWeightBytes(long maxWeightBytes) {
+            this.maxWeightBytes = maxWeightBytes;
+        }
+        
+        public double getHitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0.0 : (double) hits / requests;
+        }
+    }
+}
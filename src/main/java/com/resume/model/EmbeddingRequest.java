@@ -1,8 +1,11 @@
 package com.resume.model;
 
+import java.util.List;
+
 public class EmbeddingRequest {
     private String model;
-    private String input;
+    // Either a single string or a list of strings (batch mode)
+    private Object input;
 
     public EmbeddingRequest() {}
 
@@ -11,6 +14,11 @@ public class EmbeddingRequest {
         this.input = input;
     }
 
+    public EmbeddingRequest(String model, List<String> input) {
+        this.model = model;
+        this.input = input;
+    }
+
     public String getModel() {
         return model;
     }
@@ -19,11 +27,11 @@ public class EmbeddingRequest {
         this.model = model;
     }
 
-    public String getInput() {
+    public Object getInput() {
         return input;
     }
 
-    public void setInput(String input) {
+    public void setInput(Object input) {
         this.input = input;
     }
 } 
\ No newline at end of file
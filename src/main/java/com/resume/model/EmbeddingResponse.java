@@ -20,19 +20,33 @@ public class EmbeddingResponse {
     }
 
     public static class EmbeddingData {
-        private List<Double> embedding;
+        private int index;
+        private EmbeddingVector embedding;
 
         public EmbeddingData() {}
 
-        public EmbeddingData(List<Double> embedding) {
+        public EmbeddingData(EmbeddingVector embedding) {
             this.embedding = embedding;
         }
 
-        public List<Double> getEmbedding() {
+        public EmbeddingData(int index, EmbeddingVector embedding) {
+            this.index = index;
+            this.embedding = embedding;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public void setIndex(int index) {
+            this.index = index;
+        }
+
+        public EmbeddingVector getEmbedding() {
             return embedding;
         }
 
-        public void setEmbedding(List<Double> embedding) {
+        public void setEmbedding(EmbeddingVector embedding) {
             this.embedding = embedding;
         }
     }
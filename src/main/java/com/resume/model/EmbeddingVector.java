@@ -0,0 +1,152 @@
+package com.resume.model;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+/**
+ * Immutable embedding backed by a primitive float array, with its L2 norm computed once.
+ * A 1536-dimension vector takes about 6 KB instead of the ~35 KB of a List of boxed Doubles.
+ */
+@JsonDeserialize(using = EmbeddingVector.Deserializer.class)
+public final class EmbeddingVector {
+
+    private static final float NORMALIZED_TOLERANCE = 1e-4f;
+
+    private final float[] values;
+    private final float norm;
+
+    private EmbeddingVector(float[] values) {
+        this.values = values;
+        this.norm = computeNorm(values);
+    }
+
+    /**
+     * Create a vector from a copy of the given values
+     */
+    public static EmbeddingVector of(float[] values) {
+        return new EmbeddingVector(values.clone());
+    }
+
+    /**
+     * Create a vector that takes ownership of the given array; callers must not modify it afterwards
+     */
+    public static EmbeddingVector wrap(float[] values) {
+        return new EmbeddingVector(values);
+    }
+
+    public static EmbeddingVector of(List<Double> values) {
+        float[] array = new float[values.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = values.get(i).floatValue();
+        }
+        return new EmbeddingVector(array);
+    }
+
+    public int dimensions() {
+        return values.length;
+    }
+
+    public float get(int index) {
+        return values[index];
+    }
+
+    public float norm() {
+        return norm;
+    }
+
+    /**
+     * Whether this vector already has unit length, so cosine similarity is a plain dot product
+     */
+    public boolean isNormalized() {
+        return Math.abs(norm - 1.0f) < NORMALIZED_TOLERANCE;
+    }
+
+    /**
+     * Unit-length copy of this vector (or this vector if it is already unit length or zero)
+     */
+    public EmbeddingVector normalized() {
+        if (isNormalized() || norm == 0.0f) {
+            return this;
+        }
+        float[] unit = new float[values.length];
+        for (int i = 0; i < values.length; i++) {
+            unit[i] = values[i] / norm;
+        }
+        return new EmbeddingVector(unit);
+    }
+
+    /**
+     * Copy of the underlying values
+     */
+    public float[] toArray() {
+        return values.clone();
+    }
+
+    /**
+     * Direct access for similarity kernels in this code base; the array must not be modified
+     */
+    public float[] values() {
+        return values;
+    }
+
+    private static float computeNorm(float[] values) {
+        double sum = 0.0;
+        for (float value : values) {
+            sum += value * value;
+        }
+        return (float) Math.sqrt(sum);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof EmbeddingVector other && Arrays.equals(values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return "EmbeddingVector{dimensions=" + values.length + ", norm=" + norm + '}';
+    }
+
+    /**
+     * Reads a JSON number array straight into a float[] without boxing each element
+     */
+    public static class Deserializer extends JsonDeserializer<EmbeddingVector> {
+
+        @Override
+        public EmbeddingVector deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (parser.currentToken() != JsonToken.START_ARRAY) {
+                return (EmbeddingVector) context.handleUnexpectedToken(EmbeddingVector.class, parser);
+            }
+
+            float[] buffer = new float[1536];
+            int size = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token != JsonToken.VALUE_NUMBER_FLOAT && token != JsonToken.VALUE_NUMBER_INT) {
+                    return (EmbeddingVector) context.handleUnexpectedToken(EmbeddingVector.class, parser);
+                }
+                if (size == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, size * 2);
+                }
+                buffer[size++] = parser.getFloatValue();
+            }
+
+            return new EmbeddingVector(size == buffer.length ? buffer : Arrays.copyOf(buffer, size));
+        }
+    }
+}
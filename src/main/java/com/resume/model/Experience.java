@@ -2,6 +2,9 @@ package com.resume.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -31,6 +34,20 @@ public class Experience {
     @Column(name = "date_range")
     private String dateRange;
     
+    // Parsed from date_range by a database trigger, used for ordering by date
+    @Column(name = "start_date", insertable = false, updatable = false)
+    @JsonIgnore
+    private LocalDate startDate;
+    
+    @Column(name = "end_date", insertable = false, updatable = false)
+    @JsonIgnore
+    private LocalDate endDate;
+    
+    @Column(name = "is_current", insertable = false, updatable = false)
+    @ColumnDefault("false")
+    @JsonIgnore
+    private boolean isCurrent;
+    
     @Column(name = "description", columnDefinition = "TEXT")
     private String description;
     
@@ -43,10 +60,13 @@ public class Experience {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    // Initializing one experience's collection loads it for up to 50 experiences in the session
+    @BatchSize(size = 50)
     @OneToMany(mappedBy = "experience", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @OrderBy("orderIndex ASC")
     private List<ExperienceBullet> bullets = new ArrayList<>();
     
+    @BatchSize(size = 50)
     @OneToMany(mappedBy = "experience", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<ExperienceTechnology> technologies = new ArrayList<>();
     
@@ -144,6 +164,18 @@ public class Experience {
         this.dateRange = dateRange;
     }
     
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+    
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+    
+    public boolean isCurrent() {
+        return isCurrent;
+    }
+    
     public String getDescription() {
         return description;
     }
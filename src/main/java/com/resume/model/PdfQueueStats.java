@@ -0,0 +1,87 @@
+package com.resume.model;
+
+import java.util.Map;
+
+public class PdfQueueStats {
+    
+    // Compile workers and the number of requests allowed to wait for one
+    private int workers;
+    private int queueCapacity;
+    
+    // Current load
+    private int queueDepth;
+    private int activeCompiles;
+    
+    // Totals since startup
+    private long completed;
+    private long rejected;
+    
+    // Time spent waiting in the queue and compiling, in milliseconds
+    private double averageWaitMs;
+    private double maxWaitMs;
+    private double averageCompileMs;
+    
+    // Average milliseconds per compile phase (acquire, write, compile, collect, reset)
+    private Map<String, Double> phaseAverageMs;
+    
+    // Constructors
+    public PdfQueueStats() {}
+    
+    public PdfQueueStats(int workers, int queueCapacity, int queueDepth, int activeCompiles, long completed,
+                         long rejected, double averageWaitMs, double maxWaitMs, double averageCompileMs) {
+        this.workers = workers;
+        this.queueCapacity = queueCapacity;
+        this.queueDepth = queueDepth;
+        this.activeCompiles = activeCompiles;
+        this.completed = completed;
+        this.rejected = rejected;
+        this.averageWaitMs = averageWaitMs;
+        this.maxWaitMs = maxWaitMs;
+        this.averageCompileMs = averageCompileMs;
+    }
+    
+    // Getters and Setters
+    public int getWorkers() {
+        return workers;
+    }
+    
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+    
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+    
+    public int getActiveCompiles() {
+        return activeCompiles;
+    }
+    
+    public long getCompleted() {
+        return completed;
+    }
+    
+    public long getRejected() {
+        return rejected;
+    }
+    
+    public double getAverageWaitMs() {
+        return averageWaitMs;
+    }
+    
+    public double getMaxWaitMs() {
+        return maxWaitMs;
+    }
+    
+    public double getAverageCompileMs() {
+        return averageCompileMs;
+    }
+    
+    public Map<String, Double> getPhaseAverageMs() {
+        return phaseAverageMs;
+    }
+    
+    public void setPhaseAverageMs(Map<String, Double> phaseAverageMs) {
+        this.phaseAverageMs = phaseAverageMs;
+    }
+}
@@ -2,6 +2,7 @@ package com.resume.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -37,10 +38,12 @@ public class Project {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    @BatchSize(size = 50)
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @OrderBy("orderIndex ASC")
     private List<ProjectBullet> bullets = new ArrayList<>();
     
+    @BatchSize(size = 50)
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<ProjectTechnology> technologiesList = new ArrayList<>();
     
@@ -0,0 +1,42 @@
+package com.resume.repository;
+
+import com.resume.model.BlockEmbedding;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BlockEmbeddingRepository extends JpaRepository<BlockEmbedding, Long> {
+    
+    /**
+     * Find stored embeddings for a model whose content hash is in the given set
+     */
+    @Query("SELECT e FROM BlockEmbedding e WHERE e.model = :model AND e.contentHash IN :contentHashes")
+    List<BlockEmbedding> findByModelAndContentHashIn(@Param("model") String model,
+                                                      @Param("contentHashes") Collection<String> contentHashes);
+    
+    /**
+     * Insert an embedding, ignoring rows that another request already stored
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO block_embeddings (block_id, model, content_hash, dimensions, embedding, created_at) " +
+                   "VALUES (:blockId, :model, :contentHash, :dimensions, :embedding, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (block_id, model, content_hash) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("blockId") String blockId,
+                       @Param("model") String model,
+                       @Param("contentHash") String contentHash,
+                       @Param("dimensions") int dimensions,
+                       @Param("embedding") byte[] embedding);
+    
+    /**
+     * Count stored embeddings for a model
+     */
+    long countByModel(String model);
+} 
\ No newline at end of file
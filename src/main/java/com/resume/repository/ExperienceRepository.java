@@ -20,10 +20,11 @@ public interface ExperienceRepository extends JpaRepository<Experience, Long> {
     List<Experience> findByUserOrderByPriorityDesc(@Param("user") User user);
     
     /**
-     * Find all experiences by user, no sorting (for date-based sorting in Java)
+     * Find all experiences by user, current roles first, then latest end date and creation date
      */
-    @Query("SELECT e FROM Experience e WHERE e.user = :user")
-    List<Experience> findByUserNoSort(@Param("user") User user);
+    @Query("SELECT e FROM Experience e WHERE e.user = :user " +
+           "ORDER BY e.isCurrent DESC, e.endDate DESC NULLS LAST, e.createdAt DESC")
+    List<Experience> findByUserOrderByDateDesc(@Param("user") User user);
     
     /**
      * Find all experiences by user ID, ordered by priority descending and creation date
@@ -64,11 +65,22 @@ public interface ExperienceRepository extends JpaRepository<Experience, Long> {
     List<Experience> findByUserWithBulletsAndTechnologies(@Param("user") User user);
     
     /**
-     * Find all experiences by user with bullets eagerly loaded, no sorting (for date-based sorting in Java)
+     * Find all experiences by user with bullets eagerly loaded, ordered by date like findByUserOrderByDateDesc
      * This method is used for resume generation to avoid lazy loading issues
      */
     @Query("SELECT DISTINCT e FROM Experience e " +
            "LEFT JOIN FETCH e.bullets " +
+           "WHERE e.user = :user " +
+           "ORDER BY e.isCurrent DESC, e.endDate DESC NULLS LAST, e.createdAt DESC")
+    List<Experience> findByUserWithBulletsOrderByDateDesc(@Param("user") User user);
+    
+    /**
+     * Fetch the technologies of all experiences by user in one query. Run in the same
+     * transaction after findByUserWithBulletsOrderByDateDesc to initialize the second
+     * collection without one query per experience.
+     */
+    @Query("SELECT DISTINCT e FROM Experience e " +
+           "LEFT JOIN FETCH e.technologies " +
            "WHERE e.user = :user")
-    List<Experience> findByUserWithBulletsAndTechnologiesNoSort(@Param("user") User user);
+    List<Experience> fetchTechnologiesByUser(@Param("user") User user);
 } 
\ No newline at end of file
@@ -46,4 +46,22 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
      * Count projects by user
      */
     long countByUser(User user);
+    
+    /**
+     * Find all projects by user with bullets eagerly loaded, ordered by priority descending
+     */
+    @Query("SELECT DISTINCT p FROM Project p " +
+           "LEFT JOIN FETCH p.bullets " +
+           "WHERE p.user = :user " +
+           "ORDER BY p.priority DESC, p.createdAt DESC")
+    List<Project> findByUserWithBullets(@Param("user") User user);
+    
+    /**
+     * Fetch the technologies of all projects by user in one query. Run in the same transaction
+     * after findByUserWithBullets to initialize the second collection without one query per project.
+     */
+    @Query("SELECT DISTINCT p FROM Project p " +
+           "LEFT JOIN FETCH p.technologiesList " +
+           "WHERE p.user = :user")
+    List<Project> fetchTechnologiesByUser(@Param("user") User user);
 } 
\ No newline at end of file
@@ -0,0 +1,137 @@
+package com.resume.service;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.resume.model.BlockEmbedding;
+import com.resume.model.EmbeddingCacheStats;
+import com.resume.model.EmbeddingVector;
+import com.resume.repository.BlockEmbeddingRepository;
+import com.resume.util.HashUtil;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * PostgreSQL-backed store for block embeddings so vectors survive restarts.
+ * Reads are synchronous; writes are queued on a background thread (write-behind)
+ * so the analyze request never waits on the insert.
+ */
+@Service
+public class BlockEmbeddingStore {
+
+    @Autowired
+    private BlockEmbeddingRepository blockEmbeddingRepository;
+
+    @Autowired
+    private EmbeddingService embeddingService;
+
+    @Value("${resume.embedding.store.enabled:true}")
+    private boolean enabled;
+
+    // Writes are blocking JDBC calls, so they follow the same virtual-thread switch as the analyze executor
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    private ExecutorService writer;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        writer = Executors.newSingleThreadExecutor(virtualThreadsEnabled
+                ? Thread.ofVirtual().name("embedding-store-writer").factory()
+                : Thread.ofPlatform().name("embedding-store-writer").daemon().factory());
+    }
+
+    /**
+     * Find stored embeddings for the current model, keyed by content hash
+     */
+    public Map<String, EmbeddingVector> findEmbeddings(Collection<String> contentHashes) {
+        Map<String, EmbeddingVector> found = new HashMap<>();
+        if (!enabled || contentHashes.isEmpty()) {
+            return found;
+        }
+
+        try {
+            for (BlockEmbedding stored : blockEmbeddingRepository.findByModelAndContentHashIn(
+                    embeddingService.getModel(), contentHashes)) {
+                found.putIfAbsent(stored.getContentHash(), decode(stored.getEmbedding()));
+            }
+            hits.addAndGet(found.size());
+            misses.addAndGet(contentHashes.stream().distinct().count() - found.size());
+        } catch (Exception e) {
+            // A database hiccup should only cost us an API call, not the request
+            System.err.println("Failed to read stored embeddings: " + e.getMessage());
+        }
+        return found;
+    }
+
+    /**
+     * Queue an embedding to be persisted in the background
+     */
+    public void saveAsync(String blockId, String contentHash, EmbeddingVector embedding) {
+        if (!enabled || embedding == null || embedding.dimensions() == 0) {
+            return;
+        }
+
+        String model = embeddingService.getModel();
+        writer.execute(() -> {
+            try {
+                blockEmbeddingRepository.insertIfAbsent(blockId, model, contentHash, embedding.dimensions(), encode(embedding));
+            } catch (Exception e) {
+                System.err.println("Failed to store embedding for block " + blockId + ": " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Hit/miss counters for the persistent tier; the store never evicts
+     */
+    public EmbeddingCacheStats.TierStats stats() {
+        long entries = 0;
+        if (enabled) {
+            try {
+                entries = blockEmbeddingRepository.countByModel(embeddingService.getModel());
+            } catch (Exception e) {
+                System.err.println("Failed to count stored embeddings: " + e.getMessage());
+            }
+        }
+        return new EmbeddingCacheStats.TierStats(entries, hits.get(), misses.get(), 0, 0, 0);
+    }
+
+    /**
+     * SHA-256 hex digest of the text that is embedded for a block
+     */
+    public static String contentHash(String text) {
+        return HashUtil.sha256Hex(text);
+    }
+
+    static byte[] encode(EmbeddingVector embedding) {
+        ByteBuffer buffer = ByteBuffer.allocate(embedding.dimensions() * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(embedding.values());
+        return buffer.array();
+    }
+
+    static EmbeddingVector decode(byte[] bytes) {
+        float[] values = new float[bytes.length / Float.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(values);
+        return EmbeddingVector.wrap(values);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writer.shutdown();
+    }
+}
@@ -0,0 +1,145 @@
+package com.resume.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory BM25 term statistics over a set of documents keyed by id.
+ *
+ * Documents are re-tokenized only when their text changes, and document frequencies,
+ * lengths and postings are updated incrementally. Instances are thread-safe.
+ */
+public class Bm25Index {
+
+    private final double k1;
+    private final double b;
+
+    private final Map<String, Document> documents = new HashMap<>();
+    private final Map<String, Map<Document, Integer>> postings = new HashMap<>();
+    private long totalLength = 0;
+
+    public Bm25Index(double k1, double b) {
+        this.k1 = k1;
+        this.b = b;
+    }
+
+    /**
+     * Bring the index in line with the given document texts, keyed by document id
+     */
+    public synchronized void sync(Map<String, String> texts) {
+        for (Map.Entry<String, String> entry : texts.entrySet()) {
+            Document existing = documents.get(entry.getKey());
+            if (existing != null && existing.text.equals(entry.getValue())) {
+                continue;
+            }
+            if (existing != null) {
+                removeDocument(existing);
+            }
+            addDocument(entry.getKey(), entry.getValue());
+        }
+
+        for (Document stale : new ArrayList<>(documents.values())) {
+            if (!texts.containsKey(stale.key)) {
+                removeDocument(stale);
+            }
+        }
+    }
+
+    /**
+     * BM25 score of each document against the query terms; documents without a match are absent
+     */
+    public synchronized Map<String, Double> score(Set<String> queryTerms) {
+        Map<String, Double> scores = new HashMap<>();
+        if (documents.isEmpty() || queryTerms == null) {
+            return scores;
+        }
+
+        int documentCount = documents.size();
+        double averageLength = Math.max(1.0, (double) totalLength / documentCount);
+        for (String term : queryTerms) {
+            Map<Document, Integer> termPostings = postings.get(term);
+            if (termPostings == null) {
+                continue;
+            }
+            int df = termPostings.size();
+            double idf = Math.log(1.0 + (documentCount - df + 0.5) / (df + 0.5));
+            for (Map.Entry<Document, Integer> posting : termPostings.entrySet()) {
+                double tf = posting.getValue();
+                double lengthNorm = 1.0 - b + b * posting.getKey().length / averageLength;
+                double termScore = idf * tf * (k1 + 1.0) / (tf + k1 * lengthNorm);
+                scores.merge(posting.getKey().key, termScore, Double::sum);
+            }
+        }
+        return scores;
+    }
+
+    public synchronized int size() {
+        return documents.size();
+    }
+
+    public synchronized int vocabularySize() {
+        return postings.size();
+    }
+
+    /**
+     * Lowercase alphanumeric terms, split the same way KeywordMatchingService.extractKeywords splits job text
+     */
+    public static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        for (String term : text.toLowerCase().replaceAll("[^a-z0-9\\s]", " ").split("\\s+")) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    private void addDocument(String key, String text) {
+        List<String> terms = tokenize(text);
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String term : terms) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+
+        Document document = new Document(key, text, terms.size(), frequencies.keySet());
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), t -> new HashMap<>()).put(document, entry.getValue());
+        }
+        totalLength += document.length;
+        documents.put(key, document);
+    }
+
+    private void removeDocument(Document document) {
+        for (String term : document.terms) {
+            Map<Document, Integer> termPostings = postings.get(term);
+            termPostings.remove(document);
+            if (termPostings.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= document.length;
+        documents.remove(document.key);
+    }
+
+    // Identity equality, so a re-indexed document never collides with its previous version
+    private static final class Document {
+        private final String key;
+        private final String text;
+        private final int length;
+        private final Set<String> terms;
+
+        private Document(String key, String text, int length, Set<String> terms) {
+            this.key = key;
+            this.text = text;
+            this.length = length;
+            this.terms = new HashSet<>(terms);
+        }
+    }
+}
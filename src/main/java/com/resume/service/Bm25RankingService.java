@@ -0,0 +1,88 @@
+package com.resume.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.resume.model.ResumeBlock;
+import com.resume.model.ScoredBlock;
+
+/**
+ * Ranks resume blocks against a job description with BM25 over per-user term statistics.
+ * Needs no network access; statistics are updated in memory as block text changes.
+ */
+@Service
+public class Bm25RankingService {
+
+    @Value("${resume.ranking.bm25.k1:1.2}")
+    private double k1;
+
+    @Value("${resume.ranking.bm25.b:0.75}")
+    private double b;
+
+    @Autowired
+    private ResumeBlockEmbedder embedder;
+
+    @Autowired
+    private KeywordMatchingService keywordService;
+
+    // Term statistics keyed by caller-supplied id (e.g. username + block type)
+    private final Cache<String, Bm25Index> indexes = Caffeine.newBuilder()
+            .maximumSize(1000)
+            .expireAfterAccess(Duration.ofHours(1))
+            .build();
+
+    /**
+     * BM25 score of each block in block order; a null indexKey scores against a throwaway index
+     */
+    public List<Double> score(String indexKey, List<ResumeBlock> blocks, String jobDescription) {
+        Map<String, String> texts = new LinkedHashMap<>();
+        List<String> keys = new ArrayList<>(blocks.size());
+        Set<String> used = new HashSet<>();
+        for (int i = 0; i < blocks.size(); i++) {
+            ResumeBlock block = blocks.get(i);
+            // Block id, or the block's position when the id is missing or repeated
+            String key = block.getId() != null && used.add(block.getId()) ? block.getId() : "#" + i;
+            keys.add(key);
+            texts.put(key, embedder.generateBlockText(block));
+        }
+
+        Bm25Index index = indexKey != null
+                ? indexes.get(indexKey, key -> new Bm25Index(k1, b))
+                : new Bm25Index(k1, b);
+        Map<String, Double> scores;
+        synchronized (index) {
+            index.sync(texts);
+            scores = index.score(keywordService.extractKeywords(jobDescription));
+        }
+
+        List<Double> result = new ArrayList<>(blocks.size());
+        for (String key : keys) {
+            result.add(scores.getOrDefault(key, 0.0));
+        }
+        return result;
+    }
+
+    /**
+     * Blocks sorted by BM25 score, highest first; ties keep their original order
+     */
+    public List<ScoredBlock> rank(String indexKey, List<ResumeBlock> blocks, String jobDescription) {
+        List<Double> scores = score(indexKey, blocks, jobDescription);
+        List<ScoredBlock> scoredBlocks = new ArrayList<>(blocks.size());
+        for (int i = 0; i < blocks.size(); i++) {
+            scoredBlocks.add(new ScoredBlock(blocks.get(i), scores.get(i), false));
+        }
+        scoredBlocks.sort((a, c) -> Double.compare(c.getSimilarityScore(), a.getSimilarityScore()));
+        return scoredBlocks;
+    }
+}
@@ -0,0 +1,106 @@
+package com.resume.service;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.resume.model.EmbeddingCacheStats;
+import com.resume.model.EmbeddingVector;
+
+/**
+ * Caffeine-backed embedding cache. Caffeine evicts with W-TinyLFU, so frequently used
+ * blocks survive a burst of one-off job descriptions. Entries are weighed by their
+ * approximate heap footprint so the limit is in bytes rather than entry count.
+ */
+@Component
+public class CaffeineEmbeddingCache implements EmbeddingCache {
+
+    private final Cache<String, EmbeddingVector> cache;
+    private final long maxWeightBytes;
+
+    @Autowired
+    public CaffeineEmbeddingCache(@Value("${resume.embedding.cache.max-bytes:67108864}") long maxWeightBytes,
+                                  @Value("${resume.embedding.cache.ttl:PT6H}") Duration ttl) {
+        this(maxWeightBytes, ttl, Ticker.systemTicker(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Cache with an explicit clock and maintenance executor, so tests can expire and evict deterministically
+     */
+    CaffeineEmbeddingCache(long maxWeightBytes, Duration ttl, Ticker ticker, Executor executor) {
+        this.maxWeightBytes = maxWeightBytes;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((String key, EmbeddingVector value) -> estimateBytes(key, value))
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .executor(executor)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public EmbeddingVector getIfPresent(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    @Override
+    public EmbeddingVector peek(String key) {
+        return cache.asMap().get(key);
+    }
+
+    @Override
+    public EmbeddingVector get(String key, Function<String, EmbeddingVector> loader) {
+        return cache.get(key, loader);
+    }
+
+    @Override
+    public void put(String key, EmbeddingVector embedding) {
+        cache.put(key, embedding);
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    @Override
+    public EmbeddingCacheStats.TierStats stats() {
+        CacheStats stats = cache.stats();
+        long weightBytes = cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+        return new EmbeddingCacheStats.TierStats(
+                cache.estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.evictionCount(),
+                weightBytes,
+                maxWeightBytes
+        );
+    }
+
+    /**
+     * Approximate retained heap of one entry: the key string plus the vector object
+     * and its float[] (4 bytes per dimension).
+     */
+    static int estimateBytes(String key, EmbeddingVector value) {
+        long bytes = 40L + 2L * key.length();
+        bytes += value != null ? 40L + 4L * value.dimensions() : 0L;
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+}
@@ -21,10 +21,14 @@ public class CertificationService {
     @Autowired
     private UserRepository userRepository;
     
+    @Autowired
+    private ResumeSnapshotCache resumeSnapshots;
+    
     /**
      * Save a certification
      */
     public Certification saveCertification(String username, Certification certification) {
+        resumeSnapshots.invalidate(username);
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
         
@@ -81,6 +85,7 @@ public class CertificationService {
      * Delete a certification
      */
     public void deleteCertification(String username, Long certificationId) {
+        resumeSnapshots.invalidate(username);
         Certification certification = getCertificationByIdForUser(username, certificationId);
         certificationRepository.delete(certification);
     }
@@ -89,6 +94,7 @@ public class CertificationService {
      * Delete all certifications for a user
      */
     public void deleteAllCertifications(String username) {
+        resumeSnapshots.invalidate(username);
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
         
@@ -99,6 +105,7 @@ public class CertificationService {
      * Update certification name
      */
     public Certification updateCertificationName(String username, Long certificationId, String name) {
+        resumeSnapshots.invalidate(username);
         Certification certification = getCertificationByIdForUser(username, certificationId);
         certification.setName(name);
         return certificationRepository.save(certification);
@@ -108,6 +115,7 @@ public class CertificationService {
      * Update certification issuer
      */
     public Certification updateCertificationIssuer(String username, Long certificationId, String issuer) {
+        resumeSnapshots.invalidate(username);
         Certification certification = getCertificationByIdForUser(username, certificationId);
         certification.setIssuer(issuer);
         return certificationRepository.save(certification);
@@ -117,6 +125,7 @@ public class CertificationService {
      * Update certification date obtained
      */
     public Certification updateCertificationDate(String username, Long certificationId, java.time.LocalDate dateObtained) {
+        resumeSnapshots.invalidate(username);
         Certification certification = getCertificationByIdForUser(username, certificationId);
         certification.setDateObtained(dateObtained);
         return certificationRepository.save(certification);
@@ -126,6 +135,7 @@ public class CertificationService {
      * Update certification link
      */
     public Certification updateCertificationLink(String username, Long certificationId, String link) {
+        resumeSnapshots.invalidate(username);
         Certification certification = getCertificationByIdForUser(username, certificationId);
         certification.setLink(link);
         return certificationRepository.save(certification);
@@ -21,10 +21,14 @@ public class EducationService {
     @Autowired
     private UserRepository userRepository;
     
+    @Autowired
+    private ResumeSnapshotCache resumeSnapshots;
+    
     /**
      * Save an education entry
      */
     public Education saveEducation(String username, Education education) {
+        resumeSnapshots.invalidate(username);
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
         
@@ -81,6 +85,7 @@ public class EducationService {
      * Delete an education entry
      */
     public void deleteEducation(String username, Long educationId) {
+        resumeSnapshots.invalidate(username);
         Education education = getEducationByIdForUser(username, educationId);
         educationRepository.delete(education);
     }
@@ -89,6 +94,7 @@ public class EducationService {
      * Delete all education entries for a user
      */
     public void deleteAllEducation(String username) {
+        resumeSnapshots.invalidate(username);
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
         
@@ -99,6 +105,7 @@ public class EducationService {
      * Update education degree
      */
     public Education updateEducationDegree(String username, Long educationId, String degree) {
+        resumeSnapshots.invalidate(username);
         Education education = getEducationByIdForUser(username, educationId);
         education.setDegree(degree);
         return educationRepository.save(education);
@@ -108,6 +115,7 @@ public class EducationService {
      * Update education institution
      */
     public Education updateEducationInstitution(String username, Long educationId, String institution) {
+        resumeSnapshots.invalidate(username);
         Education education = getEducationByIdForUser(username, educationId);
         education.setInstitution(institution);
         return educationRepository.save(education);
@@ -117,6 +125,7 @@ public class EducationService {
      * Update education date range
      */
     public Education updateEducationDateRange(String username, Long educationId, String dateRange) {
+        resumeSnapshots.invalidate(username);
         Education education = getEducationByIdForUser(username, educationId);
         education.setDateRange(dateRange);
         return educationRepository.save(education);
@@ -126,6 +135,7 @@ public class EducationService {
      * Update education GPA
      */
     public Education updateEducationGpa(String username, Long educationId, String gpa) {
+        resumeSnapshots.invalidate(username);
         Education education = getEducationByIdForUser(username, educationId);
         education.setGpa(gpa);
         return educationRepository.save(education);
@@ -135,6 +145,7 @@ public class EducationService {
      * Update education location
      */
     public Education updateEducationLocation(String username, Long educationId, String location) {
+        resumeSnapshots.invalidate(username);
         Education education = getEducationByIdForUser(username, educationId);
         education.setLocation(location);
         return educationRepository.save(education);
@@ -0,0 +1,36 @@
+package com.resume.service;
+
+import java.util.function.Function;
+
+import com.resume.model.EmbeddingCacheStats;
+import com.resume.model.EmbeddingVector;
+
+/**
+ * In-memory tier of the embedding cache. Implementations are expected to be bounded
+ * and thread-safe, and to record hits, misses and evictions for getIfPresent/get.
+ */
+public interface EmbeddingCache {
+
+    /**
+     * Look up an embedding, recording a hit or miss
+     */
+    EmbeddingVector getIfPresent(String key);
+
+    /**
+     * Look up an embedding without affecting hit/miss statistics
+     */
+    EmbeddingVector peek(String key);
+
+    /**
+     * Look up an embedding, computing it on a miss. A null result is not cached.
+     */
+    EmbeddingVector get(String key, Function<String, EmbeddingVector> loader);
+
+    void put(String key, EmbeddingVector embedding);
+
+    void invalidateAll();
+
+    long size();
+
+    EmbeddingCacheStats.TierStats stats();
+}
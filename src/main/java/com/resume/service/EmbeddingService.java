@@ -2,13 +2,19 @@ package com.resume.service;
 
 import com.resume.model.EmbeddingRequest;
 import com.resume.model.EmbeddingResponse;
+import com.resume.model.EmbeddingVector;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
 @Service
 public class EmbeddingService {
 
@@ -21,35 +27,102 @@ public class EmbeddingService {
     @Value("${openai.embedding.endpoint:https://api.openai.com/v1/embeddings}")
     private String endpoint;
 
+    @Value("${openai.embedding.max-batch-size:100}")
+    private int maxBatchSize;
+
     private final WebClient webClient;
 
     public EmbeddingService(WebClient webClient) {
         this.webClient = webClient;
     }
 
-    public List<Double> getEmbedding(String text) {
-        try {
-            EmbeddingRequest request = new EmbeddingRequest(model, text);
-            
-            EmbeddingResponse response = webClient.post()
-                    .uri(endpoint)
-                    .header("Authorization", "Bearer " + apiKey)
-                    .header("Content-Type", "application/json")
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(EmbeddingResponse.class)
-                    .block();
-
-            if (response != null && response.getData() != null && !response.getData().isEmpty()) {
-                return response.getData().get(0).getEmbedding();
-            } else {
-                throw new RuntimeException("No embedding data received from OpenAI");
-            }
-        } catch (WebClientResponseException e) {
-            String errorBody = e.getResponseBodyAsString();
-            throw new RuntimeException("OpenAI Embedding API Error: " + e.getStatusCode() + " - " + errorBody, e);
-        } catch (Exception e) {
-            throw new RuntimeException("OpenAI Embedding API Error: " + e.getMessage(), e);
+    /**
+     * Embedding model used for requests, so stored vectors can be keyed by it
+     */
+    public String getModel() {
+        return model;
+    }
+
+    public EmbeddingVector getEmbedding(String text) {
+        return embedAsync(text).block();
+    }
+
+    /**
+     * Non-blocking variant of getEmbedding; emits a unit-length vector
+     */
+    public Mono<EmbeddingVector> embedAsync(String text) {
+        return postEmbeddingRequest(new EmbeddingRequest(model, text))
+                .map(response -> {
+                    if (response.getData() != null && !response.getData().isEmpty()) {
+                        // Store unit-length vectors so cosine similarity reduces to a dot product
+                        return response.getData().get(0).getEmbedding().normalized();
+                    }
+                    throw new RuntimeException("No embedding data received from OpenAI");
+                })
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("No embedding data received from OpenAI")))
+                .onErrorMap(EmbeddingService::toApiError);
+    }
+
+    /**
+     * Get embeddings for several texts, packing up to max-batch-size inputs into each request.
+     * The returned list is in the same order as the input texts.
+     */
+    public List<EmbeddingVector> getEmbeddings(List<String> texts) {
+        return embedAllAsync(texts).block();
+    }
+
+    /**
+     * Non-blocking variant of getEmbeddings; batches are sent one after another
+     */
+    public Mono<List<EmbeddingVector>> embedAllAsync(List<String> texts) {
+        int batchSize = Math.max(1, maxBatchSize);
+        List<List<String>> batches = new ArrayList<>();
+        for (int start = 0; start < texts.size(); start += batchSize) {
+            batches.add(texts.subList(start, Math.min(start + batchSize, texts.size())));
+        }
+
+        return Flux.fromIterable(batches)
+                .concatMap(this::embedBatchAsync)
+                .flatMapIterable(embeddings -> embeddings)
+                .collectList();
+    }
+
+    private Mono<List<EmbeddingVector>> embedBatchAsync(List<String> batch) {
+        return postEmbeddingRequest(new EmbeddingRequest(model, batch))
+                .defaultIfEmpty(new EmbeddingResponse())
+                .map(response -> {
+                    if (response.getData() == null || response.getData().size() != batch.size()) {
+                        throw new RuntimeException("Expected " + batch.size() + " embeddings from OpenAI but received "
+                                + (response.getData() != null ? response.getData().size() : 0));
+                    }
+
+                    // OpenAI tags each embedding with the index of its input; don't rely on response order
+                    return response.getData().stream()
+                            .sorted(Comparator.comparingInt(EmbeddingResponse.EmbeddingData::getIndex))
+                            .map(data -> data.getEmbedding().normalized())
+                            .toList();
+                })
+                .onErrorMap(EmbeddingService::toApiError);
+    }
+
+    private Mono<EmbeddingResponse> postEmbeddingRequest(EmbeddingRequest request) {
+        return webClient.post()
+                .uri(endpoint)
+                .header("Authorization", "Bearer " + apiKey)
+                .header("Content-Type", "application/json")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(EmbeddingResponse.class);
+    }
+
+    private static Throwable toApiError(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            String errorBody = responseException.getResponseBodyAsString();
+            return new RuntimeException("OpenAI Embedding API Error: " + responseException.getStatusCode() + " - " + errorBody, e);
+        }
+        if (e.getMessage() != null && e.getMessage().startsWith("OpenAI Embedding API Error")) {
+            return e;
         }
+        return new RuntimeException("OpenAI Embedding API Error: " + e.getMessage(), e);
     }
 } 
\ No newline at end of file
@@ -3,7 +3,6 @@ package com.resume.service;
 import java.util.List;
 import java.util.Optional;
 
-import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -27,10 +26,14 @@ public class ExperienceService {
     @Autowired
     private UserRepository userRepository;
     
+    @Autowired
+    private ResumeSnapshotCache resumeSnapshots;
+    
     /**
      * Save or update an experience
      */
     public Experience saveExperience(String username, Experience experience) {
+        resumeSnapshots.invalidate(username);
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
         
@@ -49,127 +52,33 @@ public class ExperienceService {
     }
     
     /**
-     * Get all experiences for a user, ordered by date range (latest first)
+     * Get all experiences for a user, ordered by date (current roles first, then latest end date)
      */
     public List<Experience> getAllExperiencesByDate(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
         
-        List<Experience> experiences = experienceRepository.findByUserNoSort(user);
-        
-        // Sort by date range (latest first)
-        System.out.println("=== getAllExperiencesByDate - BEFORE SORTING ===");
-        for (Experience exp : experiences) {
-            System.out.println("Experience: " + exp.getTitle() + " - Date Range: " + exp.getDateRange() + " - End Year: " + extractEndYear(exp.getDateRange()));
-        }
-        
-        experiences.sort((e1, e2) -> {
-            String dateRange1 = e1.getDateRange() != null ? e1.getDateRange() : "";
-            String dateRange2 = e2.getDateRange() != null ? e2.getDateRange() : "";
-            
-            // Extract the end year from date range (e.g., "2020-2023" -> 2023)
-            int year1 = extractEndYear(dateRange1);
-            int year2 = extractEndYear(dateRange2);
-            
-            // Sort by year descending (latest first)
-            if (year1 != year2) {
-                return Integer.compare(year2, year1);
-            }
-            
-            // If same year, sort by creation date descending
-            return e2.getCreatedAt().compareTo(e1.getCreatedAt());
-        });
-        
-        System.out.println("=== getAllExperiencesByDate - AFTER SORTING ===");
-        for (Experience exp : experiences) {
-            System.out.println("Experience: " + exp.getTitle() + " - Date Range: " + exp.getDateRange() + " - End Year: " + extractEndYear(exp.getDateRange()));
-        }
-        
-        return experiences;
+        return experienceRepository.findByUserOrderByDateDesc(user);
     }
     
     /**
-     * Get all experiences for a user with bullets and technologies eagerly loaded, ordered by date range (latest first)
+     * Get all experiences for a user with bullets and technologies eagerly loaded, ordered by date
      * This method is specifically for resume generation to avoid lazy loading issues
      */
     public List<Experience> getAllExperiencesByDateWithDetails(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
         
-        List<Experience> experiences = experienceRepository.findByUserWithBulletsAndTechnologiesNoSort(user);
+        List<Experience> experiences = experienceRepository.findByUserWithBulletsOrderByDateDesc(user);
         
-        // Manually initialize technologies collection for each experience
-        for (Experience experience : experiences) {
-            Hibernate.initialize(experience.getTechnologies());
-        }
-        
-        // Sort by date range (latest first)
-        System.out.println("=== getAllExperiencesByDateWithDetails - BEFORE SORTING ===");
-        for (Experience exp : experiences) {
-            System.out.println("Experience: " + exp.getTitle() + " - Date Range: " + exp.getDateRange() + " - End Year: " + extractEndYear(exp.getDateRange()));
-        }
-        
-        experiences.sort((e1, e2) -> {
-            String dateRange1 = e1.getDateRange() != null ? e1.getDateRange() : "";
-            String dateRange2 = e2.getDateRange() != null ? e2.getDateRange() : "";
-            
-            // Extract the end year from date range (e.g., "2020-2023" -> 2023)
-            int year1 = extractEndYear(dateRange1);
-            int year2 = extractEndYear(dateRange2);
-            
-            // Sort by year descending (latest first)
-            if (year1 != year2) {
-                return Integer.compare(year2, year1);
-            }
-            
-            // If same year, sort by creation date descending
-            return e2.getCreatedAt().compareTo(e1.getCreatedAt());
-        });
-        
-        System.out.println("=== getAllExperiencesByDateWithDetails - AFTER SORTING ===");
-        for (Experience exp : experiences) {
-            System.out.println("Experience: " + exp.getTitle() + " - Date Range: " + exp.getDateRange() + " - End Year: " + extractEndYear(exp.getDateRange()));
+        // Initialize technologies for all experiences in one query
+        if (!experiences.isEmpty()) {
+            experienceRepository.fetchTechnologiesByUser(user);
         }
         
         return experiences;
     }
     
-    /**
-     * Extract the end year from a date range string
-     */
-    private int extractEndYear(String dateRange) {
-        if (dateRange == null || dateRange.trim().isEmpty()) {
-            return 0;
-        }
-        
-        // Handle various date range formats
-        String[] patterns = {
-            "\\d{4}-\\d{4}", // 2020-2023
-            "\\d{4}", // 2023
-            "\\w+\\s+\\d{4}\\s*-\\s*\\w+\\s+\\d{4}", // Jan 2020 - Dec 2023
-            "\\w+\\s+\\d{4}\\s*-\\s*Present", // Jan 2020 - Present
-            "\\w+\\s+\\d{4}\\s*-\\s*\\w+\\s+\\d{4}" // Jan 2020 - Dec 2023
-        };
-        
-        for (String pattern : patterns) {
-            if (dateRange.matches(".*" + pattern + ".*")) {
-                // Extract the last 4-digit number (year)
-                String[] parts = dateRange.split("\\D+");
-                for (int i = parts.length - 1; i >= 0; i--) {
-                    if (parts[i].length() == 4) {
-                        try {
-                            return Integer.parseInt(parts[i]);
-                        } catch (NumberFormatException e) {
-                            continue;
-                        }
-                    }
-                }
-            }
-        }
-        
-        return 0;
-    }
-    
     /**
      * Get all experiences for a user with bullets and technologies eagerly loaded
      * This method is specifically for resume generation to avoid lazy loading issues
@@ -180,9 +89,9 @@ public class ExperienceService {
         
         List<Experience> experiences = experienceRepository.findByUserWithBulletsAndTechnologies(user);
         
-        // Manually initialize technologies collection for each experience
-        for (Experience experience : experiences) {
-            Hibernate.initialize(experience.getTechnologies());
+        // Initialize technologies for all experiences in one query
+        if (!experiences.isEmpty()) {
+            experienceRepository.fetchTechnologiesByUser(user);
         }
         
         return experiences;
@@ -227,6 +136,7 @@ public class ExperienceService {
      * Delete an experience
      */
     public void deleteExperience(String username, Long experienceId) {
+        resumeSnapshots.invalidate(username);
         Experience experience = getExperienceByIdForUser(username, experienceId);
         experienceRepository.delete(experience);
     }
@@ -235,6 +145,7 @@ public class ExperienceService {
      * Delete all experiences for a user
      */
     public void deleteAllExperiences(String username) {
+        resumeSnapshots.invalidate(username);
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
         
@@ -245,6 +156,7 @@ public class ExperienceService {
      * Add a bullet point to an experience
      */
     public ExperienceBullet addBulletToExperience(String username, Long experienceId, String bulletText, Integer orderIndex) {
+        resumeSnapshots.invalidate(username);
         Experience experience = getExperienceByIdForUser(username, experienceId);
         
         ExperienceBullet bullet = new ExperienceBullet(experience, bulletText, orderIndex);
@@ -258,6 +170,7 @@ public class ExperienceService {
      * Add a bullet point with link to an experience
      */
     public ExperienceBullet addBulletToExperience(String username, Long experienceId, String bulletText, Integer orderIndex, String link) {
+        resumeSnapshots.invalidate(username);
         Experience experience = getExperienceByIdForUser(username, experienceId);
         
         ExperienceBullet bullet = new ExperienceBullet(experience, bulletText, orderIndex, link);
@@ -271,6 +184,7 @@ public class ExperienceService {
      * Remove a bullet point from an experience
      */
     public void removeBulletFromExperience(String username, Long experienceId, Long bulletId) {
+        resumeSnapshots.invalidate(username);
         Experience experience = getExperienceByIdForUser(username, experienceId);
         
         Optional<ExperienceBullet> bulletToRemove = experience.getBullets().stream()
@@ -287,6 +201,7 @@ public class ExperienceService {
      * Add a technology to an experience
      */
     public ExperienceTechnology addTechnologyToExperience(String username, Long experienceId, String technology) {
+        resumeSnapshots.invalidate(username);
         Experience experience = getExperienceByIdForUser(username, experienceId);
         
         ExperienceTechnology tech = new ExperienceTechnology(experience, technology);
@@ -300,6 +215,7 @@ public class ExperienceService {
      * Remove a technology from an experience
      */
     public void removeTechnologyFromExperience(String username, Long experienceId, Long technologyId) {
+        resumeSnapshots.invalidate(username);
         Experience experience = getExperienceByIdForUser(username, experienceId);
         
         Optional<ExperienceTechnology> techToRemove = experience.getTechnologies().stream()
@@ -316,6 +232,7 @@ public class ExperienceService {
      * Update experience priority
      */
     public Experience updateExperiencePriority(String username, Long experienceId, Integer priority) {
+        resumeSnapshots.invalidate(username);
         Experience experience = getExperienceByIdForUser(username, experienceId);
         experience.setPriority(priority);
         return experienceRepository.save(experience);
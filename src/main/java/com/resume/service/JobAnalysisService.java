@@ -0,0 +1,129 @@
+package com.resume.service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.resume.model.PersonalInfo;
+import com.resume.model.ResumeBlock;
+import com.resume.model.ResumeData;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs the independent stages of /resume/analyze concurrently: the LLM analysis, the resume
+ * load and ranking, and the personal info lookup. Stages are joined only where a later stage
+ * needs their result, so latency tracks the slowest stage rather than the sum of all of them.
+ */
+@Service
+public class JobAnalysisService {
+
+    @Autowired
+    private LLMService llmService;
+
+    @Autowired
+    private ResumeBlockService resumeBlockService;
+
+    @Autowired
+    private PersonalInfoService personalInfoService;
+
+    @Autowired
+    private LaTeXService latexService;
+
+    // Same switch that moves Tomcat request handling onto virtual threads
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    @Value("${resume.executor.platform-pool-size:32}")
+    private int platformPoolSize;
+
+    // Not a bean, so Spring Boot still auto-configures its own applicationTaskExecutor
+    private ExecutorService blockingTaskExecutor;
+
+    @PostConstruct
+    public void init() {
+        blockingTaskExecutor = virtualThreadsEnabled
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("analyze-", 0).factory())
+                : Executors.newFixedThreadPool(platformPoolSize, Thread.ofPlatform().name("analyze-", 0).daemon().factory());
+    }
+
+    /**
+     * Analyze a job description for a user and build the tailored resume
+     */
+    public JobAnalysis analyze(String username, String jobDescription) {
+        return analyzeAsync(username, jobDescription).join();
+    }
+
+    /**
+     * Non-blocking variant of analyze. The LLM call holds no thread while in flight; database and
+     * ranking stages run on the analyze executor.
+     */
+    public CompletableFuture<JobAnalysis> analyzeAsync(String username, String jobDescription) {
+        CompletableFuture<String> llmResponse = llmService.analyzeJobDescriptionAsync(jobDescription).toFuture();
+
+        CompletableFuture<PersonalInfo> personalInfo = CompletableFuture.supplyAsync(
+                () -> personalInfoService.getPersonalInfo(username), blockingTaskExecutor);
+
+        CompletableFuture<ResumeData> allBlocks = CompletableFuture.supplyAsync(() -> {
+            ResumeData resumeData = resumeBlockService.loadResumeBlocks(username);
+            // Embed experiences and projects together in one batched call
+            resumeBlockService.preloadEmbeddings(resumeData, jobDescription);
+            return resumeData;
+        }, blockingTaskExecutor);
+
+        // Experiences and projects rank independently once the blocks are loaded
+        CompletableFuture<List<ResumeBlock>> selectedExperiences = allBlocks.thenApplyAsync(
+                blocks -> resumeBlockService.selectTopExperiences(blocks.getExperiences(), jobDescription, username),
+                blockingTaskExecutor);
+        CompletableFuture<List<ResumeBlock>> selectedProjects = allBlocks.thenApplyAsync(
+                blocks -> resumeBlockService.selectTopProjects(blocks.getProjects(), jobDescription, username),
+                blockingTaskExecutor);
+
+        CompletableFuture<ResumeData> selectedResumeData = CompletableFuture.allOf(selectedExperiences, selectedProjects)
+                .thenApply(ignored -> {
+                    ResumeData blocks = allBlocks.join();
+                    ResumeData selected = new ResumeData();
+                    selected.setExperiences(selectedExperiences.join());
+                    selected.setProjects(selectedProjects.join());
+                    selected.setSkills(blocks.getSkills()); // Include skills in analysis
+                    selected.setEducation(blocks.getEducation()); // Include education in analysis
+                    return selected;
+                });
+
+        CompletableFuture<String> latexContent = selectedResumeData.thenCombine(personalInfo, this::generateLatex);
+
+        // The LLM result is only needed for the analysis summary, so it is joined last
+        return latexContent.thenCombine(llmResponse,
+                (latex, llm) -> new JobAnalysis(llm, selectedResumeData.join(), latex));
+    }
+
+    private String generateLatex(ResumeData selectedResumeData, PersonalInfo personalInfo) {
+        String candidateName = personalInfo != null ? personalInfo.getName() : "Unknown";
+        String candidateEmail = personalInfo != null ? personalInfo.getEmail() : "";
+        String candidatePhone = personalInfo != null ? personalInfo.getPhone() : "";
+        String candidateLocation = personalInfo != null ? personalInfo.getLocation() : "";
+        String candidateLinkedIn = personalInfo != null ? personalInfo.getLinkedin() : "";
+        String candidatePortfolio = personalInfo != null ? personalInfo.getPortfolio() : "";
+
+        return latexService.generateResume(
+            selectedResumeData, candidateName, candidateEmail, candidatePhone,
+            candidateLocation, candidateLinkedIn, candidatePortfolio
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        blockingTaskExecutor.shutdown();
+    }
+
+    /**
+     * Raw LLM analysis plus the selected blocks and generated LaTeX
+     */
+    public record JobAnalysis(String llmResponse, ResumeData selectedResumeData, String latexContent) {}
+}
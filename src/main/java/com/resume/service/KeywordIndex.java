@@ -0,0 +1,320 @@
+package com.resume.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.resume.model.ExperienceProject;
+import com.resume.model.ResumeBlock;
+
+/**
+ * Inverted index over the tokens of a set of resume blocks, producing the same scores as
+ * KeywordMatchingService.calculateScore without scanning every block word for every keyword.
+ *
+ * A keyword scores +1 for each token set that contains it exactly, and +0.5 for each token
+ * in a set that contains the keyword or is contained by it. Tokens containing a keyword are
+ * found through a trigram index: the posting lists of the keyword's trigrams are intersected
+ * and each candidate is verified with String.contains. Keywords shorter than a trigram scan
+ * the token dictionary. Tokens contained by a keyword are found by looking up the keyword's
+ * own substrings in the dictionary. Memory is linear in token length (at most L - 2 trigram
+ * postings per token).
+ *
+ * Blocks are re-indexed only when their tags, lines or projects change. Instances are thread-safe.
+ */
+public class KeywordIndex {
+
+    private static final int GRAM = 3;
+
+    private final Map<String, Document> documents = new HashMap<>();
+    private final Map<String, List<TokenSet>> postings = new HashMap<>();
+    private final Map<String, Set<String>> trigramIndex = new HashMap<>();
+    private int maxTokenLength = 0;
+    private long tokenOccurrences = 0;
+    private long trigramPostings = 0;
+
+    /**
+     * Bring the index in line with the given blocks, re-indexing only blocks whose content changed
+     * and dropping blocks that are no longer present. Returns whether anything was re-indexed.
+     */
+    public synchronized boolean sync(List<ResumeBlock> blocks) {
+        List<String> keys = documentKeys(blocks);
+        Set<String> seen = new HashSet<>(keys);
+        boolean changed = false;
+        for (int i = 0; i < blocks.size(); i++) {
+            ResumeBlock block = blocks.get(i);
+            String key = keys.get(i);
+
+            List<List<String>> signature = signature(block);
+            Document existing = documents.get(key);
+            if (existing != null && existing.signature.equals(signature)) {
+                continue;
+            }
+            if (existing != null) {
+                removeDocument(existing);
+            }
+            addDocument(key, block, signature);
+            changed = true;
+        }
+
+        for (Document stale : new ArrayList<>(documents.values())) {
+            if (!seen.contains(stale.key)) {
+                removeDocument(stale);
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Score the given blocks against the keywords. Blocks must have been passed to sync first.
+     */
+    public synchronized List<Double> score(List<ResumeBlock> blocks, Set<String> keywords) {
+        for (Document document : documents.values()) {
+            document.score = 0.0;
+        }
+
+        if (keywords != null && !keywords.isEmpty()) {
+            for (String keyword : keywords) {
+                scoreKeyword(keyword.toLowerCase());
+            }
+        }
+
+        List<String> keys = documentKeys(blocks);
+        List<Double> scores = new ArrayList<>(blocks.size());
+        for (String key : keys) {
+            Document document = documents.get(key);
+            scores.add(document != null ? document.score : 0.0);
+        }
+        return scores;
+    }
+
+    public synchronized int size() {
+        return documents.size();
+    }
+
+    /**
+     * Approximate retained heap in bytes, used to weigh the index in caches
+     */
+    public synchronized long estimateBytes() {
+        long bytes = 128L;
+        for (String token : postings.keySet()) {
+            // Dictionary entry: key string, map node and posting list
+            bytes += 40L + token.length() + 32L + 40L;
+        }
+        bytes += 8L * tokenOccurrences;
+        // Trigram keys, their sets and one set node per posting
+        bytes += (40L + GRAM + 32L + 48L) * trigramIndex.size() + 32L * trigramPostings;
+        for (Document document : documents.values()) {
+            bytes += 64L + 48L * document.tokenSets.size();
+            for (List<String> values : document.signature) {
+                for (String value : values) {
+                    bytes += 40L + value.length();
+                }
+            }
+        }
+        return bytes;
+    }
+
+    private void scoreKeyword(String keyword) {
+        // Exact matches
+        List<TokenSet> exact = postings.get(keyword);
+        if (exact != null) {
+            for (TokenSet tokenSet : exact) {
+                tokenSet.document.score += 1.0;
+            }
+        }
+
+        // Partial matches: tokens containing the keyword, or contained in it
+        Set<String> matches = new HashSet<>();
+        addTokensContaining(keyword, matches);
+        int maxLength = Math.min(keyword.length(), maxTokenLength);
+        for (int length = 0; length <= maxLength; length++) {
+            for (int start = 0; start + length <= keyword.length(); start++) {
+                String substring = keyword.substring(start, start + length);
+                if (postings.containsKey(substring)) {
+                    matches.add(substring);
+                }
+            }
+        }
+
+        for (String token : matches) {
+            for (TokenSet tokenSet : postings.get(token)) {
+                tokenSet.document.score += 0.5;
+            }
+        }
+    }
+
+    private void addTokensContaining(String keyword, Set<String> matches) {
+        if (keyword.length() < GRAM) {
+            for (String token : postings.keySet()) {
+                if (token.contains(keyword)) {
+                    matches.add(token);
+                }
+            }
+            return;
+        }
+
+        // Intersect starting from the rarest trigram; every survivor still has to be verified
+        List<Set<String>> lists = new ArrayList<>();
+        for (String trigram : trigrams(keyword)) {
+            Set<String> tokens = trigramIndex.get(trigram);
+            if (tokens == null) {
+                return;
+            }
+            lists.add(tokens);
+        }
+        lists.sort((a, b) -> Integer.compare(a.size(), b.size()));
+        for (String candidate : lists.get(0)) {
+            boolean inAll = true;
+            for (int i = 1; i < lists.size() && inAll; i++) {
+                inAll = lists.get(i).contains(candidate);
+            }
+            if (inAll && candidate.contains(keyword)) {
+                matches.add(candidate);
+            }
+        }
+    }
+
+    private void addDocument(String key, ResumeBlock block, List<List<String>> signature) {
+        Document document = new Document(key, signature);
+
+        document.tokenSets.add(new TokenSet(document, blockTokens(block.getTags(), block.getLines())));
+        if (block.getProjects() != null) {
+            for (ExperienceProject project : block.getProjects()) {
+                document.tokenSets.add(new TokenSet(document, blockTokens(project.getTags(), project.getLines())));
+            }
+        }
+
+        for (TokenSet tokenSet : document.tokenSets) {
+            for (String token : tokenSet.tokens) {
+                List<TokenSet> sets = postings.get(token);
+                if (sets == null) {
+                    sets = new ArrayList<>();
+                    postings.put(token, sets);
+                    addToken(token);
+                }
+                sets.add(tokenSet);
+                tokenOccurrences++;
+            }
+        }
+        documents.put(key, document);
+    }
+
+    private void removeDocument(Document document) {
+        for (TokenSet tokenSet : document.tokenSets) {
+            for (String token : tokenSet.tokens) {
+                List<TokenSet> sets = postings.get(token);
+                sets.remove(tokenSet);
+                tokenOccurrences--;
+                if (sets.isEmpty()) {
+                    postings.remove(token);
+                    removeToken(token);
+                }
+            }
+        }
+        documents.remove(document.key);
+    }
+
+    private void addToken(String token) {
+        maxTokenLength = Math.max(maxTokenLength, token.length());
+        for (String trigram : trigrams(token)) {
+            if (trigramIndex.computeIfAbsent(trigram, t -> new HashSet<>()).add(token)) {
+                trigramPostings++;
+            }
+        }
+    }
+
+    private void removeToken(String token) {
+        for (String trigram : trigrams(token)) {
+            Set<String> tokens = trigramIndex.get(trigram);
+            if (tokens != null && tokens.remove(token)) {
+                trigramPostings--;
+                if (tokens.isEmpty()) {
+                    trigramIndex.remove(trigram);
+                }
+            }
+        }
+    }
+
+    private static Set<String> trigrams(String text) {
+        Set<String> trigrams = new HashSet<>();
+        for (int start = 0; start + GRAM <= text.length(); start++) {
+            trigrams.add(text.substring(start, start + GRAM));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Same tokenization as KeywordMatchingService: lowercased tags plus whitespace-split line words
+     */
+    private static Set<String> blockTokens(List<String> tags, List<String> lines) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (tags != null) {
+            for (String tag : tags) {
+                tokens.add(tag.toLowerCase());
+            }
+        }
+        if (lines != null) {
+            for (String line : lines) {
+                tokens.addAll(Arrays.asList(line.toLowerCase().split("\\s+")));
+            }
+        }
+        return tokens;
+    }
+
+    private static List<List<String>> signature(ResumeBlock block) {
+        List<List<String>> signature = new ArrayList<>();
+        signature.add(copyOf(block.getTags()));
+        signature.add(copyOf(block.getLines()));
+        if (block.getProjects() != null) {
+            for (ExperienceProject project : block.getProjects()) {
+                signature.add(copyOf(project.getTags()));
+                signature.add(copyOf(project.getLines()));
+            }
+        }
+        return signature;
+    }
+
+    private static List<String> copyOf(List<String> values) {
+        return values != null ? new ArrayList<>(values) : List.of();
+    }
+
+    // Block id, or the block's position when the id is missing or repeated
+    private static List<String> documentKeys(List<ResumeBlock> blocks) {
+        List<String> keys = new ArrayList<>(blocks.size());
+        Set<String> used = new HashSet<>();
+        for (int i = 0; i < blocks.size(); i++) {
+            String id = blocks.get(i).getId();
+            keys.add(id != null && used.add(id) ? id : "#" + i);
+        }
+        return keys;
+    }
+
+    private static final class Document {
+        private final String key;
+        private final List<List<String>> signature;
+        private final List<TokenSet> tokenSets = new ArrayList<>();
+        private double score;
+
+        private Document(String key, List<List<String>> signature) {
+            this.key = key;
+            this.signature = signature;
+        }
+    }
+
+    // The block's own tokens, or one experience project's tokens; each is scored separately
+    private static final class TokenSet {
+        private final Document document;
+        private final Set<String> tokens;
+
+        private TokenSet(Document document, Set<String> tokens) {
+            this.document = document;
+            this.tokens = tokens;
+        }
+    }
+}
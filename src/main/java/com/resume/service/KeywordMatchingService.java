@@ -1,15 +1,48 @@
 package com.resume.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.resume.model.ResumeBlock;
 import com.resume.model.ExperienceProject;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
 public class KeywordMatchingService {
 
+    // Set.of rejects duplicates, so each word may only appear once
+    private static final Set<String> STOP_WORDS = Set.of(
+        "the", "a", "an", "and", "or", "but", "in", "on", "at", "to", "for", "of", "with",
+        "by", "is", "are", "was", "were", "be", "been", "being", "have", "has", "had",
+        "do", "does", "did", "will", "would", "could", "should", "may", "might", "must",
+        "can", "this", "that", "these", "those", "i", "you", "he", "she", "it", "we", "they",
+        "me", "him", "her", "us", "them", "my", "your", "his", "its", "our", "their"
+    );
+
+    private static final long DEFAULT_INDEX_MAX_BYTES = 32L * 1024 * 1024;
+
+    // Inverted indexes keyed by caller-supplied id (e.g. username + block type), rebuilt incrementally
+    // and weighed by their estimated heap size
+    private final Cache<String, KeywordIndex> indexes;
+
+    public KeywordMatchingService() {
+        this(DEFAULT_INDEX_MAX_BYTES);
+    }
+
+    @Autowired
+    public KeywordMatchingService(@Value("${resume.keyword.index.max-bytes:33554432}") long indexMaxBytes) {
+        this.indexes = Caffeine.newBuilder()
+                .maximumWeight(indexMaxBytes)
+                .weigher((String key, KeywordIndex index) -> (int) Math.min(Integer.MAX_VALUE, index.estimateBytes()))
+                .expireAfterAccess(Duration.ofHours(1))
+                .build();
+    }
+
     /**
      * Extract keywords from job description
      */
@@ -87,6 +120,50 @@ public class KeywordMatchingService {
         return score;
     }
 
+    /**
+     * Score all blocks against a job description using an inverted index; results match
+     * calculateScore and are returned in block order
+     */
+    public List<Double> calculateScores(String indexKey, List<ResumeBlock> blocks, String jobDescription) {
+        return calculateScores(indexKey, blocks, extractKeywords(jobDescription));
+    }
+
+    /**
+     * Score all blocks against the provided keywords using an inverted index. The index for indexKey
+     * is kept between calls and only re-indexes blocks whose tags, lines or projects changed;
+     * a null key scores against a throwaway index.
+     */
+    public List<Double> calculateScores(String indexKey, List<ResumeBlock> blocks, Set<String> keywords) {
+        if (keywords == null || keywords.isEmpty()) {
+            return new ArrayList<>(Collections.nCopies(blocks.size(), 0.0));
+        }
+
+        KeywordIndex index = indexKey != null
+                ? indexes.get(indexKey, key -> new KeywordIndex())
+                : new KeywordIndex();
+        List<Double> scores;
+        boolean changed;
+        synchronized (index) {
+            changed = index.sync(blocks);
+            scores = index.score(blocks, keywords);
+        }
+        if (changed && indexKey != null) {
+            // Caffeine weighs entries on write, so re-put the index after it grew or shrank
+            indexes.asMap().replace(indexKey, index, index);
+        }
+        return scores;
+    }
+
+    /**
+     * Total weight of the cached indexes in estimated bytes
+     */
+    long getIndexWeight() {
+        indexes.cleanUp();
+        return indexes.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
     /**
      * Calculate score for an experience project
      */
@@ -134,13 +211,6 @@ public class KeywordMatchingService {
      * Check if a word is a stop word
      */
     private boolean isStopWord(String word) {
-        Set<String> stopWords = Set.of(
-            "the", "a", "an", "and", "or", "but", "in", "on", "at", "to", "for", "of", "with",
-            "by", "is", "are", "was", "were", "be", "been", "being", "have", "has", "had",
-            "do", "does", "did", "will", "would", "could", "should", "may", "might", "must",
-            "can", "this", "that", "these", "those", "i", "you", "he", "she", "it", "we", "they",
-            "me", "him", "her", "us", "them", "my", "your", "his", "her", "its", "our", "their"
-        );
-        return stopWords.contains(word.toLowerCase());
+        return STOP_WORDS.contains(word.toLowerCase());
     }
 } 
\ No newline at end of file
@@ -45,8 +45,19 @@ public class LLMService {
     }
 
     public String analyzeJobDescription(String jobDescription) {
-        String endpoint = getEndpoint();
-        
+        Mono<String> analysis = analyzeJobDescriptionAsync(jobDescription);
+        try {
+            return analysis.block(); // Convert Mono to blocking call
+        } catch (Exception e) {
+            System.err.println("LLM Service Error: " + e.getMessage());
+            return getDefaultResponse();
+        }
+    }
+
+    /**
+     * Non-blocking variant of analyzeJobDescription; no thread is held while waiting on the LLM
+     */
+    public Mono<String> analyzeJobDescriptionAsync(String jobDescription) {
         LLMRequest request = new LLMRequest(
             model,
             List.of(
@@ -57,39 +68,47 @@ public class LLMService {
             1000
         );
 
+        // Resolved up front so an unsupported provider still throws instead of getting the default response
+        String endpoint = getEndpoint();
+
+        return webClient.post()
+                .uri(endpoint)
+                .header("Authorization", "Bearer " + apiKey)
+                .header("Content-Type", "application/json")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(LLMResponse.class)
+                .timeout(Duration.ofSeconds(30)) // Add 30 second timeout
+                .map(response -> {
+                    if (response.getChoices() != null && !response.getChoices().isEmpty()) {
+                        String content = response.getChoices().get(0).getMessage().getContent();
+                        // Try to fix common JSON issues
+                        content = fixIncompleteJSON(content);
+                        return content;
+                    }
+                    throw new RuntimeException("No response from LLM");
+                })
+                .onErrorResume(e -> {
+                    // Return a default response if LLM fails
+                    System.err.println("LLM API Error: " + e.getMessage());
+                    return Mono.just(getDefaultResponse());
+                });
+    }
+
+    public String generateCoverLetterContent(String jobDescription, String jobTitle, String companyName, String candidateBackground) {
+        Mono<String> coverLetter = generateCoverLetterContentAsync(jobDescription, jobTitle, companyName, candidateBackground);
         try {
-            return webClient.post()
-                    .uri(endpoint)
-                    .header("Authorization", "Bearer " + apiKey)
-                    .header("Content-Type", "application/json")
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(LLMResponse.class)
-                    .timeout(Duration.ofSeconds(30)) // Add 30 second timeout
-                    .map(response -> {
-                        if (response.getChoices() != null && !response.getChoices().isEmpty()) {
-                            String content = response.getChoices().get(0).getMessage().getContent();
-                            // Try to fix common JSON issues
-                            content = fixIncompleteJSON(content);
-                            return content;
-                        }
-                        throw new RuntimeException("No response from LLM");
-                    })
-                    .onErrorResume(e -> {
-                        // Return a default response if LLM fails
-                        System.err.println("LLM API Error: " + e.getMessage());
-                        return Mono.just(getDefaultResponse());
-                    })
-                    .block(); // Convert Mono to blocking call
+            return coverLetter.block(); // Convert Mono to blocking call
         } catch (Exception e) {
             System.err.println("LLM Service Error: " + e.getMessage());
-            return getDefaultResponse();
+            return getDefaultCoverLetterResponse();
         }
     }
 
-    public String generateCoverLetterContent(String jobDescription, String jobTitle, String companyName, String candidateBackground) {
-        String endpoint = getEndpoint();
-        
+    /**
+     * Non-blocking variant of generateCoverLetterContent
+     */
+    public Mono<String> generateCoverLetterContentAsync(String jobDescription, String jobTitle, String companyName, String candidateBackground) {
         LLMRequest request = new LLMRequest(
             model,
             List.of(
@@ -100,34 +119,31 @@ public class LLMService {
             1500
         );
 
-        try {
-            return webClient.post()
-                    .uri(endpoint)
-                    .header("Authorization", "Bearer " + apiKey)
-                    .header("Content-Type", "application/json")
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(LLMResponse.class)
-                    .timeout(Duration.ofSeconds(45)) // Longer timeout for cover letter generation
-                    .map(response -> {
-                        if (response.getChoices() != null && !response.getChoices().isEmpty()) {
-                            String content = response.getChoices().get(0).getMessage().getContent();
-                            // Try to fix common JSON issues
-                            content = fixIncompleteJSON(content);
-                            return content;
-                        }
-                        throw new RuntimeException("No response from LLM");
-                    })
-                    .onErrorResume(e -> {
-                        // Return a default response if LLM fails
-                        System.err.println("LLM API Error: " + e.getMessage());
-                        return Mono.just(getDefaultCoverLetterResponse());
-                    })
-                    .block(); // Convert Mono to blocking call
-        } catch (Exception e) {
-            System.err.println("LLM Service Error: " + e.getMessage());
-            return getDefaultCoverLetterResponse();
-        }
+        // Resolved up front so an unsupported provider still throws instead of getting the default response
+        String endpoint = getEndpoint();
+
+        return webClient.post()
+                .uri(endpoint)
+                .header("Authorization", "Bearer " + apiKey)
+                .header("Content-Type", "application/json")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(LLMResponse.class)
+                .timeout(Duration.ofSeconds(45)) // Longer timeout for cover letter generation
+                .map(response -> {
+                    if (response.getChoices() != null && !response.getChoices().isEmpty()) {
+                        String content = response.getChoices().get(0).getMessage().getContent();
+                        // Try to fix common JSON issues
+                        content = fixIncompleteJSON(content);
+                        return content;
+                    }
+                    throw new RuntimeException("No response from LLM");
+                })
+                .onErrorResume(e -> {
+                    // Return a default response if LLM fails
+                    System.err.println("LLM API Error: " + e.getMessage());
+                    return Mono.just(getDefaultCoverLetterResponse());
+                });
     }
 
     private String fixIncompleteJSON(String json) {
@@ -1,11 +1,10 @@
 package com.resume.service;
 
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
-import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 
 import com.resume.model.CertificationBlock;
@@ -19,57 +18,38 @@ import com.resume.model.SkillsBlock;
 @Service
 public class LaTeXService {
 
+    // Parsed once when the service is created rather than read and rewritten per request
+    private final LatexTemplate resumeTemplate = LatexTemplate.load("jx_template.tex",
+            "CANDIDATE_NAME", "CANDIDATE_EMAIL", "CANDIDATE_PHONE", "CANDIDATE_LOCATION",
+            "CANDIDATE_LINKEDIN", "CANDIDATE_PORTFOLIO",
+            "EXPERIENCE_SECTION", "PROJECTS_SECTION", "SKILLS_SECTION", "EDUCATION_SECTION");
+
+    private final LatexTemplate coverLetterTemplate = LatexTemplate.load("cover_letter.tex",
+            "CANDIDATE_NAME", "CANDIDATE_EMAIL", "CANDIDATE_PHONE", "CANDIDATE_LOCATION",
+            "CANDIDATE_LINKEDIN", "CANDIDATE_PORTFOLIO",
+            "COMPANY_NAME", "COMPANY_ADDRESS", "COMPANY_CITY_STATE_ZIP", "HIRING_MANAGER",
+            "LETTER_DATE", "OPENING_PARAGRAPH", "BODY_PARAGRAPH_1", "BODY_PARAGRAPH_2", "CLOSING_PARAGRAPH");
+
     public String generateResume(ResumeData resumeData, String candidateName, String candidateEmail, 
                                String candidatePhone, String candidateLocation, String candidateLinkedIn, 
                                String candidatePortfolio) {
-        try {
-            String template = loadTemplate();
-
-            
-            // Replace personal information placeholders
-            template = template.replace("{{CANDIDATE_NAME}}", escapeLatex(candidateName));
-            template = template.replace("{{CANDIDATE_EMAIL}}", escapeLatex(candidateEmail));
-            template = template.replace("{{CANDIDATE_PHONE}}", escapeLatex(candidatePhone));
-            template = template.replace("{{CANDIDATE_LOCATION}}", escapeLatex(candidateLocation));
-            template = template.replace("{{CANDIDATE_LINKEDIN}}", escapeLatex(candidateLinkedIn));
-            template = template.replace("{{CANDIDATE_PORTFOLIO}}", escapeLatex(candidatePortfolio));
-            
-            // Generate experience section
-            String experienceLatex = generateExperienceLatex(resumeData.getExperiences());
-            
-            // Generate projects section
-            String projectsLatex = generateProjectLatex(resumeData.getProjects());
-            
-            // Generate skills section
-            String skillsLatex = generateSkillsLatex(resumeData.getSkills());
-            
-            // Generate education section
-            String educationLatex = generateEducationLatex(resumeData.getEducation());
-            
-            // Generate skills section with certifications included
-            String skillsWithCertificationsLatex = generateSkillsWithCertificationsLatex(resumeData.getSkills(), resumeData.getCertifications());
-            
-            // Replace section placeholders
-            template = template.replace("{{EXPERIENCE_SECTION}}", experienceLatex);
-            template = template.replace("{{PROJECTS_SECTION}}", projectsLatex);
-            template = template.replace("{{SKILLS_SECTION}}", skillsWithCertificationsLatex);
-            template = template.replace("{{EDUCATION_SECTION}}", educationLatex);
-            
-            return template;
-            
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to generate LaTeX resume", e);
-        }
-    }
-
-    private String loadTemplate() throws IOException {
-        ClassPathResource resource = new ClassPathResource("jx_template.tex");
-        return new String(resource.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
-    }
-
-    private String loadCoverLetterTemplate() throws IOException {
-        ClassPathResource resource = new ClassPathResource("cover_letter.tex");
-        return new String(resource.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        Map<String, String> values = new HashMap<>();
+        
+        // Personal information placeholders
+        values.put("CANDIDATE_NAME", escapeLatex(candidateName));
+        values.put("CANDIDATE_EMAIL", escapeLatex(candidateEmail));
+        values.put("CANDIDATE_PHONE", escapeLatex(candidatePhone));
+        values.put("CANDIDATE_LOCATION", escapeLatex(candidateLocation));
+        values.put("CANDIDATE_LINKEDIN", escapeLatex(candidateLinkedIn));
+        values.put("CANDIDATE_PORTFOLIO", escapeLatex(candidatePortfolio));
+        
+        // Section placeholders; the skills section includes certifications
+        values.put("EXPERIENCE_SECTION", generateExperienceLatex(resumeData.getExperiences()));
+        values.put("PROJECTS_SECTION", generateProjectLatex(resumeData.getProjects()));
+        values.put("SKILLS_SECTION", generateSkillsWithCertificationsLatex(resumeData.getSkills(), resumeData.getCertifications()));
+        values.put("EDUCATION_SECTION", generateEducationLatex(resumeData.getEducation()));
+        
+        return resumeTemplate.render(values);
     }
 
     public String generateEducationLatex(List<EducationBlock> educationBlocks) {
@@ -89,11 +69,14 @@ public class LaTeXService {
             
             if (location != null && !location.trim().isEmpty()) {
                 latex.append("\\begin{tabular*}{1.0\\textwidth}[b]{l@{\\extracolsep{\\fill}}r}\n");
-                latex.append("\\textbf{").append(escapeLatex(institution)).append("} $|$ \\small{").append(escapeLatex(location)).append("} & ").append(escapeLatex(education.getDateRange())).append("\n");
+                appendEscaped(latex.append("\\textbf{"), institution).append("} $|$ \\small{");
+                appendEscaped(latex, location).append("} & ");
+                appendEscaped(latex, education.getDateRange()).append("\n");
                 latex.append("\\end{tabular*}\n");
             } else {
                 latex.append("\\begin{tabular*}{1.0\\textwidth}[b]{l@{\\extracolsep{\\fill}}r}\n");
-                latex.append("\\textbf{").append(escapeLatex(institution)).append("} & ").append(escapeLatex(education.getDateRange())).append("\n");
+                appendEscaped(latex.append("\\textbf{"), institution).append("} & ");
+                appendEscaped(latex, education.getDateRange()).append("\n");
                 latex.append("\\end{tabular*}\n");
             }
             
@@ -103,11 +86,12 @@ public class LaTeXService {
             
             if (gpa != null && !gpa.trim().isEmpty()) {
                 latex.append("\\begin{tabular*}{1.0\\textwidth}[b]{l@{\\extracolsep{\\fill}}r}\n");
-                latex.append("\\textit{\\small ").append(escapeLatex(degree)).append("} & \\textit{\\small GPA: ").append(escapeLatex(gpa)).append("}\n");
+                appendEscaped(latex.append("\\textit{\\small "), degree).append("} & \\textit{\\small GPA: ");
+                appendEscaped(latex, gpa).append("}\n");
                 latex.append("\\end{tabular*}\n");
             } else {
                 latex.append("\\begin{tabular*}{1.0\\textwidth}[b]{l@{\\extracolsep{\\fill}}r}\n");
-                latex.append("\\textit{\\small ").append(escapeLatex(degree)).append("} & {}\n");
+                appendEscaped(latex.append("\\textit{\\small "), degree).append("} & {}\n");
                 latex.append("\\end{tabular*}\n");
             }
         }
@@ -133,7 +117,7 @@ public class LaTeXService {
                         .collect(Collectors.joining(", "));
                 
                 // Generate LaTeX for this category
-                latex.append("\\bulletItem{\\textbf{").append(escapeLatex(category)).append(":} ").append(skillList).append("}\n");
+                appendEscaped(latex.append("\\bulletItem{\\textbf{"), category).append(":} ").append(skillList).append("}\n");
                 latex.append("\\vspace{\\vspaceAfterBullets}\n");
             }
         }
@@ -185,7 +169,9 @@ public class LaTeXService {
             String issuer = certification.getIssuer();
             
             latex.append("\\begin{tabular*}{1.0\\textwidth}[b]{l@{\\extracolsep{\\fill}}r}\n");
-            latex.append("\\textbf{").append(escapeLatex(name)).append("} $|$ \\small{").append(escapeLatex(issuer)).append("} & ").append(escapeLatex(certification.getDate())).append("\n");
+            appendEscaped(latex.append("\\textbf{"), name).append("} $|$ \\small{");
+            appendEscaped(latex, issuer).append("} & ");
+            appendEscaped(latex, certification.getDate()).append("\n");
             latex.append("\\end{tabular*}\n");
             
             // Add link if available
@@ -211,12 +197,14 @@ public class LaTeXService {
             
             // Add company and location
             latex.append("\\begin{tabular*}{1.0\\textwidth}[b]{l@{\\extracolsep{\\fill}}r}\n");
-            latex.append("\\textbf{").append(escapeLatex(experience.getCompany())).append("} & ").append(escapeLatex(experience.getLocation())).append("\n");
+            appendEscaped(latex.append("\\textbf{"), experience.getCompany()).append("} & ");
+            appendEscaped(latex, experience.getLocation()).append("\n");
             latex.append("\\end{tabular*}\n");
             
             // Add title and date
             latex.append("\\begin{tabular*}{1.0\\textwidth}[b]{l@{\\extracolsep{\\fill}}r}\n");
-            latex.append("\\textit{\\small ").append(escapeLatex(experience.getTitle())).append("} & \\textit{\\small ").append(escapeLatex(experience.getDateRange())).append("}\n");
+            appendEscaped(latex.append("\\textit{\\small "), experience.getTitle()).append("} & \\textit{\\small ");
+            appendEscaped(latex, experience.getDateRange()).append("}\n");
             latex.append("\\end{tabular*}\n");
             
             // Start bullet list
@@ -228,35 +216,35 @@ public class LaTeXService {
                     // Generate bullet points for each line in the project
                     for (int i = 0; i < project.getLines().size(); i++) {
                         String line = project.getLines().get(i);
-                        String latexLine = escapeLatex(line);
+                        appendEscaped(latex.append("\\item\\small{"), line);
                         
                         // Add link to the first line if project has a link
                         if (i == 0 && project.getLink() != null && !project.getLink().isEmpty()) {
-                            latexLine = latexLine + " \\href{" + project.getLink() + "}{\\textcolor{blue}{\\faLink}}";
+                            latex.append(" \\href{").append(project.getLink()).append("}{\\textcolor{blue}{\\faLink}}");
                         }
                         
-                        latex.append("\\item\\small{").append(latexLine).append("}\n");
+                        latex.append("}\n");
                     }
                 }
             }
             // Handle old structure with lines (for backward compatibility)
             else if (experience.getLines() != null) {
                 for (String line : experience.getLines()) {
-                    String latexLine = escapeLatex(line);
+                    latex.append("\\item\\small{");
                     
                     // Check if line contains a link indicator
-                    if (line.contains("[LINK:")) {
-                        int linkStart = line.indexOf("[LINK:");
-                        int linkEnd = line.indexOf("]", linkStart);
-                        if (linkStart != -1 && linkEnd != -1) {
-                            String beforeLink = line.substring(0, linkStart).trim();
-                            String link = line.substring(linkStart + 6, linkEnd).trim();
-                            
-                            latexLine = escapeLatex(beforeLink) + " \\href{" + link + "}{\\textcolor{blue}{\\faLink}}";
-                        }
+                    int linkStart = line.indexOf("[LINK:");
+                    int linkEnd = linkStart != -1 ? line.indexOf("]", linkStart) : -1;
+                    if (linkStart != -1 && linkEnd != -1) {
+                        String beforeLink = line.substring(0, linkStart).trim();
+                        String link = line.substring(linkStart + 6, linkEnd).trim();
+                        
+                        appendEscaped(latex, beforeLink).append(" \\href{").append(link).append("}{\\textcolor{blue}{\\faLink}}");
+                    } else {
+                        appendEscaped(latex, line);
                     }
                     
-                    latex.append("\\item\\small{").append(latexLine).append("}\n");
+                    latex.append("}\n");
                 }
             }
             
@@ -280,7 +268,8 @@ public class LaTeXService {
             
             // Build the project heading with title, technologies, and link
             StringBuilder heading = new StringBuilder();
-            heading.append("\\textbf{").append(escapeLatex(project.getTitle())).append("} $|$ \\emph{").append(escapeLatex(project.getTechnologies())).append("}");
+            appendEscaped(heading.append("\\textbf{"), project.getTitle()).append("} $|$ \\emph{");
+            appendEscaped(heading, project.getTechnologies()).append("}");
             
             // Add link if available
             if (project.getLink() != null && !project.getLink().trim().isEmpty()) {
@@ -311,7 +300,7 @@ public class LaTeXService {
             // Add bullet points
             if (project.getLines() != null) {
                 for (String line : project.getLines()) {
-                    latex.append("\\item\\small{").append(escapeLatex(line)).append("}\n");
+                    appendEscaped(latex.append("\\item\\small{"), line).append("}\n");
                 }
             }
             
@@ -322,55 +311,40 @@ public class LaTeXService {
         return latex.toString();
     }
 
-    private String escapeLatex(String text) {
-        if (text == null) {
-            return "";
-        }
-        
-        return text
-                .replace("\\", "\\textbackslash{}")
-                .replace("{", "\\{")
-                .replace("}", "\\}")
-                .replace("$", "\\$")
-                .replace("&", "\\&")
-                .replace("#", "\\#")
-                .replace("^", "\\^{}")
-                .replace("_", "\\_")
-                .replace("~", "\\~{}")
-                .replace("%", "\\%");
+    String escapeLatex(String text) {
+        return LatexEscaper.escape(text);
+    }
+
+    private StringBuilder appendEscaped(StringBuilder latex, String text) {
+        return LatexEscaper.append(latex, text);
     }
 
     public String generateCoverLetter(CoverLetterData coverLetterData) {
-        try {
-            String template = loadCoverLetterTemplate();
-            
-            // Replace candidate information placeholders with safe defaults
-            template = template.replace("{{CANDIDATE_NAME}}", escapeLatex(coverLetterData.getCandidateName() != null ? coverLetterData.getCandidateName() : ""));
-            template = template.replace("{{CANDIDATE_EMAIL}}", escapeLatex(coverLetterData.getCandidateEmail() != null ? coverLetterData.getCandidateEmail() : ""));
-            template = template.replace("{{CANDIDATE_PHONE}}", escapeLatex(coverLetterData.getCandidatePhone() != null ? coverLetterData.getCandidatePhone() : ""));
-            template = template.replace("{{CANDIDATE_LOCATION}}", escapeLatex(coverLetterData.getCandidateLocation() != null ? coverLetterData.getCandidateLocation() : ""));
-            template = template.replace("{{CANDIDATE_LINKEDIN}}", escapeLatex(coverLetterData.getCandidateLinkedIn() != null ? coverLetterData.getCandidateLinkedIn() : ""));
-            template = template.replace("{{CANDIDATE_PORTFOLIO}}", escapeLatex(coverLetterData.getCandidatePortfolio() != null ? coverLetterData.getCandidatePortfolio() : ""));
-            
-            // Replace company information placeholders with safe defaults
-            template = template.replace("{{COMPANY_NAME}}", escapeLatex(coverLetterData.getCompanyName() != null ? coverLetterData.getCompanyName() : ""));
-            template = template.replace("{{COMPANY_ADDRESS}}", escapeLatex(coverLetterData.getCompanyAddress() != null ? coverLetterData.getCompanyAddress() : ""));
-            template = template.replace("{{COMPANY_CITY_STATE_ZIP}}", escapeLatex(coverLetterData.getCompanyCityStateZip() != null ? coverLetterData.getCompanyCityStateZip() : ""));
-            template = template.replace("{{HIRING_MANAGER}}", escapeLatex(coverLetterData.getHiringManager() != null ? coverLetterData.getHiringManager() : "Hiring Manager"));
-            
-            // Replace date placeholder
-            template = template.replace("{{LETTER_DATE}}", escapeLatex(coverLetterData.getLetterDate() != null ? coverLetterData.getLetterDate() : ""));
-            
-            // Replace content placeholders with safe defaults
-            template = template.replace("{{OPENING_PARAGRAPH}}", escapeLatex(coverLetterData.getOpeningParagraph() != null ? coverLetterData.getOpeningParagraph() : ""));
-            template = template.replace("{{BODY_PARAGRAPH_1}}", escapeLatex(coverLetterData.getBodyParagraph1() != null ? coverLetterData.getBodyParagraph1() : ""));
-            template = template.replace("{{BODY_PARAGRAPH_2}}", escapeLatex(coverLetterData.getBodyParagraph2() != null ? coverLetterData.getBodyParagraph2() : ""));
-            template = template.replace("{{CLOSING_PARAGRAPH}}", escapeLatex(coverLetterData.getClosingParagraph() != null ? coverLetterData.getClosingParagraph() : ""));
-            
-            return template;
-            
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to generate LaTeX cover letter", e);
-        }
+        Map<String, String> values = new HashMap<>();
+        
+        // Candidate information placeholders with safe defaults
+        values.put("CANDIDATE_NAME", escapeLatex(coverLetterData.getCandidateName() != null ? coverLetterData.getCandidateName() : ""));
+        values.put("CANDIDATE_EMAIL", escapeLatex(coverLetterData.getCandidateEmail() != null ? coverLetterData.getCandidateEmail() : ""));
+        values.put("CANDIDATE_PHONE", escapeLatex(coverLetterData.getCandidatePhone() != null ? coverLetterData.getCandidatePhone() : ""));
+        values.put("CANDIDATE_LOCATION", escapeLatex(coverLetterData.getCandidateLocation() != null ? coverLetterData.getCandidateLocation() : ""));
+        values.put("CANDIDATE_LINKEDIN", escapeLatex(coverLetterData.getCandidateLinkedIn() != null ? coverLetterData.getCandidateLinkedIn() : ""));
+        values.put("CANDIDATE_PORTFOLIO", escapeLatex(coverLetterData.getCandidatePortfolio() != null ? coverLetterData.getCandidatePortfolio() : ""));
+        
+        // Company information placeholders with safe defaults
+        values.put("COMPANY_NAME", escapeLatex(coverLetterData.getCompanyName() != null ? coverLetterData.getCompanyName() : ""));
+        values.put("COMPANY_ADDRESS", escapeLatex(coverLetterData.getCompanyAddress() != null ? coverLetterData.getCompanyAddress() : ""));
+        values.put("COMPANY_CITY_STATE_ZIP", escapeLatex(coverLetterData.getCompanyCityStateZip() != null ? coverLetterData.getCompanyCityStateZip() : ""));
+        values.put("HIRING_MANAGER", escapeLatex(coverLetterData.getHiringManager() != null ? coverLetterData.getHiringManager() : "Hiring Manager"));
+        
+        // Date placeholder
+        values.put("LETTER_DATE", escapeLatex(coverLetterData.getLetterDate() != null ? coverLetterData.getLetterDate() : ""));
+        
+        // Content placeholders with safe defaults
+        values.put("OPENING_PARAGRAPH", escapeLatex(coverLetterData.getOpeningParagraph() != null ? coverLetterData.getOpeningParagraph() : ""));
+        values.put("BODY_PARAGRAPH_1", escapeLatex(coverLetterData.getBodyParagraph1() != null ? coverLetterData.getBodyParagraph1() : ""));
+        values.put("BODY_PARAGRAPH_2", escapeLatex(coverLetterData.getBodyParagraph2() != null ? coverLetterData.getBodyParagraph2() : ""));
+        values.put("CLOSING_PARAGRAPH", escapeLatex(coverLetterData.getClosingParagraph() != null ? coverLetterData.getClosingParagraph() : ""));
+        
+        return coverLetterTemplate.render(values);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.resume.service;
+
+/**
+ * Table-driven LaTeX escaping. Each input is scanned once and copied in runs between special
+ * characters; text without specials is returned as is.
+ *
+ * The replacements reproduce the original chain of String.replace calls exactly, including
+ * its quirk of escaping the braces it had just added: a backslash becomes \textbackslash\{\}.
+ */
+final class LatexEscaper {
+
+    private static final String[] REPLACEMENTS = new String[128];
+
+    static {
+        REPLACEMENTS['\\'] = "\\textbackslash\\{\\}";
+        REPLACEMENTS['{'] = "\\{";
+        REPLACEMENTS['}'] = "\\}";
+        REPLACEMENTS['$'] = "\\$";
+        REPLACEMENTS['&'] = "\\&";
+        REPLACEMENTS['#'] = "\\#";
+        REPLACEMENTS['^'] = "\\^{}";
+        REPLACEMENTS['_'] = "\\_";
+        REPLACEMENTS['~'] = "\\~{}";
+        REPLACEMENTS['%'] = "\\%";
+    }
+
+    private LatexEscaper() {}
+
+    /**
+     * Escaped text; null becomes empty and text without specials is returned unchanged
+     */
+    static String escape(String text) {
+        if (text == null) {
+            return "";
+        }
+        int first = firstSpecial(text);
+        if (first < 0) {
+            return text;
+        }
+        StringBuilder out = new StringBuilder(text.length() + 16);
+        appendFrom(out, text, first);
+        return out.toString();
+    }
+
+    /**
+     * Append escaped text to out; null appends nothing
+     */
+    static StringBuilder append(StringBuilder out, String text) {
+        if (text == null) {
+            return out;
+        }
+        int first = firstSpecial(text);
+        if (first < 0) {
+            return out.append(text);
+        }
+        appendFrom(out, text, first);
+        return out;
+    }
+
+    private static int firstSpecial(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 128 && REPLACEMENTS[c] != null) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void appendFrom(StringBuilder out, String text, int first) {
+        out.append(text, 0, first);
+        int runStart = first;
+        for (int i = first; i < text.length(); i++) {
+            char c = text.charAt(i);
+            String replacement = c < 128 ? REPLACEMENTS[c] : null;
+            if (replacement != null) {
+                out.append(text, runStart, i).append(replacement);
+                runStart = i + 1;
+            }
+        }
+        out.append(text, runStart, text.length());
+    }
+}
@@ -0,0 +1,209 @@
+package com.resume.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.resume.util.HashUtil;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Precompiled preambles. A document is split into a static preamble (everything before a
+ * %endofdump line, or before \begin{document}) and a dynamic body. The first time a preamble is
+ * seen it is dumped into a format file in the background; later documents with the same
+ * preamble are compiled as body only against that format, so packages and macros are not
+ * re-parsed for every PDF.
+ *
+ * Formats are named by a hash of the compiler identity and the preamble text, so editing a
+ * template or upgrading TeX simply produces a new format; unused ones are evicted and deleted.
+ */
+@Service
+public class LatexFormatCache {
+
+    static final String END_OF_DUMP = "%endofdump";
+    private static final String BEGIN_DOCUMENT = "\\begin{document}";
+
+    @Value("${resume.pdf.preamble-formats.enabled:true}")
+    private boolean enabled;
+
+    @Value("${resume.pdf.preamble-formats.max:8}")
+    private long maxFormats;
+
+    @Value("${resume.pdf.latex-timeout:30}")
+    private int latexTimeout;
+
+    @Autowired
+    private LatexWorkerPool latexWorkerPool;
+
+    // Format name to whether it was built; failed preambles are not retried
+    private Cache<String, Boolean> formats;
+    private final Set<String> building = ConcurrentHashMap.newKeySet();
+    // Platform thread even in virtual-thread mode: a build waits seconds in Process.waitFor, which
+    // pins its carrier on JDK 21, and a single background thread gains nothing from being virtual
+    private final ExecutorService builder = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("latex-format-builder").daemon().factory());
+
+    @PostConstruct
+    public void init() {
+        formats = Caffeine.newBuilder()
+                .maximumSize(maxFormats)
+                .removalListener((String name, Boolean built, RemovalCause cause) -> {
+                    if (Boolean.TRUE.equals(built) && cause.wasEvicted()) {
+                        deleteQuietly(formatFile(name));
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Split LaTeX source into preamble and body, or null if it has no document environment
+     */
+    public Split split(String latexContent) {
+        int end = latexContent.indexOf("\n" + END_OF_DUMP);
+        if (end < 0) {
+            end = latexContent.indexOf(BEGIN_DOCUMENT);
+        } else {
+            end++;
+        }
+        if (end <= 0) {
+            return null;
+        }
+        return new Split(latexContent.substring(0, end), latexContent.substring(end));
+    }
+
+    /**
+     * Name of a ready format for this preamble, or null. An unknown preamble is queued for
+     * building and compiled in full until its format is ready.
+     */
+    public String formatFor(String preamble) {
+        if (!enabled) {
+            return null;
+        }
+        String name = formatName(preamble);
+        Boolean built = formats.getIfPresent(name);
+        if (built != null) {
+            if (built && Files.exists(formatFile(name))) {
+                return name;
+            }
+            if (built) {
+                formats.invalidate(name);
+            } else {
+                return null;
+            }
+        }
+        if (building.add(name)) {
+            builder.execute(() -> {
+                try {
+                    formats.put(name, build(name, preamble));
+                } finally {
+                    building.remove(name);
+                }
+            });
+        }
+        return null;
+    }
+
+    public long size() {
+        return formats.estimatedSize();
+    }
+
+    private String formatName(String preamble) {
+        return "preamble-" + HashUtil.sha256Hex(latexWorkerPool.getCompilerIdentity() + "\n" + preamble).substring(0, 16);
+    }
+
+    private Path formatFile(String name) {
+        return latexWorkerPool.getFormatDirectory().resolve(name + ".fmt");
+    }
+
+    private boolean build(String name, String preamble) {
+        Path buildDirectory = null;
+        try {
+            buildDirectory = Files.createTempDirectory(latexWorkerPool.getFormatDirectory(), "build-");
+            Files.writeString(buildDirectory.resolve(name + ".tex"), preamble + "\n\\dump\n", StandardCharsets.UTF_8);
+
+            String engine = latexWorkerPool.getEngine();
+            ProcessBuilder processBuilder = new ProcessBuilder(
+                engine,
+                "-ini",
+                "-interaction=nonstopmode",
+                "-halt-on-error",
+                "-jobname=" + name,
+                "&" + engine + " " + name + ".tex"
+            );
+            processBuilder.directory(buildDirectory.toFile());
+            processBuilder.redirectOutput(ProcessBuilder.Redirect.DISCARD);
+            processBuilder.redirectErrorStream(true);
+
+            Process process = processBuilder.start();
+            try {
+                if (!process.waitFor(latexTimeout, TimeUnit.SECONDS)) {
+                    System.err.println("Building LaTeX format timed out: " + name);
+                    return false;
+                }
+            } finally {
+                process.destroyForcibly();
+            }
+
+            Path built = buildDirectory.resolve(name + ".fmt");
+            if (!Files.exists(built) || Files.size(built) == 0) {
+                System.err.println("LaTeX format was not built, preamble will be compiled per PDF: " + name);
+                return false;
+            }
+            // Workers may start with this format at any moment, so it only appears once complete
+            Files.move(built, formatFile(name), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return true;
+        } catch (IOException e) {
+            System.err.println("Failed to build LaTeX format: " + name + " - " + e.getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            if (buildDirectory != null) {
+                deleteDirectory(buildDirectory);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        builder.shutdownNow();
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            System.err.println("Failed to delete LaTeX format: " + path + " - " + e.getMessage());
+        }
+    }
+
+    private static void deleteDirectory(Path directory) {
+        try (var paths = Files.walk(directory)) {
+            paths.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            System.err.println("Failed to cleanup LaTeX format build directory: " + directory + " - " + e.getMessage());
+        }
+    }
+
+    /**
+     * Static preamble and per-document body of a LaTeX source
+     */
+    public record Split(String preamble, String body) {}
+}
@@ -0,0 +1,89 @@
+package com.resume.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.io.ClassPathResource;
+
+/**
+ * A LaTeX template parsed once into literal text and {{PLACEHOLDER}} slots. Rendering appends
+ * each literal and slot value in a single pass into one pre-sized buffer.
+ */
+final class LatexTemplate {
+
+    private final String[] literals;
+    private final String[] slots;
+    private final int literalLength;
+
+    private LatexTemplate(String[] literals, String[] slots) {
+        this.literals = literals;
+        this.slots = slots;
+        this.literalLength = Arrays.stream(literals).mapToInt(String::length).sum();
+    }
+
+    /**
+     * Parse a classpath template, recognising only the given placeholder names
+     */
+    static LatexTemplate load(String resourcePath, String... placeholders) {
+        try {
+            String source = new ClassPathResource(resourcePath).getContentAsString(StandardCharsets.UTF_8);
+            return compile(source, placeholders);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load LaTeX template " + resourcePath, e);
+        }
+    }
+
+    /**
+     * Parse template text. Occurrences are matched left to right as String.replace would, and
+     * unknown {{...}} text is kept literally.
+     */
+    static LatexTemplate compile(String source, String... placeholders) {
+        List<int[]> matches = new ArrayList<>();
+        for (int p = 0; p < placeholders.length; p++) {
+            String token = "{{" + placeholders[p] + "}}";
+            for (int at = source.indexOf(token); at >= 0; at = source.indexOf(token, at + token.length())) {
+                matches.add(new int[] { at, at + token.length(), p });
+            }
+        }
+        matches.sort(Comparator.comparingInt(match -> match[0]));
+
+        String[] literals = new String[matches.size() + 1];
+        String[] slots = new String[matches.size()];
+        int position = 0;
+        for (int i = 0; i < matches.size(); i++) {
+            int[] match = matches.get(i);
+            literals[i] = source.substring(position, match[0]);
+            slots[i] = placeholders[match[2]];
+            position = match[1];
+        }
+        literals[matches.size()] = source.substring(position);
+        return new LatexTemplate(literals, slots);
+    }
+
+    /**
+     * Render with placeholder values; a missing value renders as empty text
+     */
+    String render(Map<String, String> values) {
+        int capacity = literalLength;
+        for (String slot : slots) {
+            String value = values.get(slot);
+            capacity += value != null ? value.length() : 0;
+        }
+
+        StringBuilder out = new StringBuilder(capacity);
+        for (int i = 0; i < slots.length; i++) {
+            out.append(literals[i]);
+            String value = values.get(slots[i]);
+            if (value != null) {
+                out.append(value);
+            }
+        }
+        return out.append(literals[slots.length]).toString();
+    }
+}
@@ -0,0 +1,576 @@
+package com.resume.service;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Pool of pre-started pdflatex processes. Each worker is launched in its own directory with a
+ * first line that loads the format and then blocks on a terminal read (\read16). A compile job
+ * writes its .tex file into the worker's directory and sends one line on stdin, after which the
+ * worker switches to nonstop mode and inputs the file. Process start-up and format loading are
+ * therefore paid before the request arrives.
+ *
+ * A TeX run cannot be reused after \end{document}, so each worker serves a single job and is
+ * replaced in the background. The directories are not: workers run in a fixed ring of slot
+ * directories, preferably on tmpfs, that are emptied and handed to the next worker instead of
+ * being created and deleted per PDF.
+ *
+ * Workers can be started with a precompiled preamble format (see LatexFormatCache). Requests are
+ * counted per format with a one-minute half-life, and the pool's places are shared among the
+ * formats asked for in the last ten minutes in proportion to that demand, so resume and cover
+ * letter traffic each keep their own warm workers. An idle worker is only retired when its
+ * format has had no demand for the whole window.
+ *
+ * A failed pre-start pauses pre-warming with exponential backoff (1s doubling to 1 minute) and
+ * schedules a retry; any successful start, cold or warm, resumes it immediately.
+ */
+@Service
+public class LatexWorkerPool {
+
+    static final String JOB_NAME = "document";
+
+    private static final long MIN_RETRY_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long MAX_RETRY_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final long DEMAND_HALF_LIFE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final long DEMAND_WINDOW_NANOS = TimeUnit.MINUTES.toNanos(10);
+    // Map key for the engine's own format, which has no name
+    private static final String DEFAULT_FORMAT = "";
+
+    // Empty means /dev/shm when available, otherwise the JVM temp directory
+    @Value("${resume.pdf.temp-dir:}")
+    private String tempDir;
+
+    // 0 means two per pre-started worker plus one per core
+    @Value("${resume.pdf.workspace-slots:0}")
+    private int configuredSlots;
+
+    @Value("${resume.pdf.latex-workers:2}")
+    private int poolSize;
+
+    @Value("${resume.pdf.latex-engine:pdflatex}")
+    private String engine;
+
+    private final BlockingQueue<Workspace> idle = new LinkedBlockingQueue<>();
+    private final BlockingQueue<Path> freeSlots = new LinkedBlockingQueue<>();
+    private final AtomicInteger slotNames = new AtomicInteger();
+    private final AtomicInteger starting = new AtomicInteger();
+    private final AtomicLong warmStarts = new AtomicLong();
+    private final AtomicLong coldStarts = new AtomicLong();
+    private final Map<String, Demand> demand = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> startingByFormat = new ConcurrentHashMap<>();
+    // Platform thread even in virtual-thread mode: process start-up is a native fork/exec that
+    // pins a carrier, and one launcher thread is enough to keep the pool filled
+    private final ScheduledExecutorService launcher = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("latex-worker-launcher").daemon().factory());
+
+    private Path root;
+    private Path formatDirectory;
+    private volatile String compilerIdentity;
+    // After a failed pre-start, pre-starting is paused until retryAt (System.nanoTime)
+    private volatile boolean paused = false;
+    private volatile long retryAt;
+    private long retryDelayNanos = MIN_RETRY_NANOS;
+    private volatile boolean closed = false;
+
+    @PostConstruct
+    public void init() throws IOException {
+        // Per-process directory, so instances sharing a temp dir never reset each other's slots
+        root = resolveBaseDirectory().resolve("pool-" + ProcessHandle.current().pid());
+        formatDirectory = Files.createDirectories(root.resolve("formats"));
+        int slots = configuredSlots > 0 ? configuredSlots : 2 * poolSize + Runtime.getRuntime().availableProcessors();
+        for (int i = 0; i < slots; i++) {
+            freeSlots.add(newSlot());
+        }
+        System.out.println("LaTeX workspaces: " + slots + " slots in " + root + " (" + Files.getFileStore(root).type() + ")");
+        refill();
+    }
+
+    /**
+     * Take a warm workspace, or start a cold one when none is ready
+     */
+    public Workspace acquire() throws IOException {
+        return acquire(null);
+    }
+
+    /**
+     * Take a warm workspace preloaded with the given format (null for the engine's own), or
+     * start a cold one when none is ready
+     */
+    public Workspace acquire(String format) throws IOException {
+        demand.computeIfAbsent(formatKey(format), key -> new Demand()).record(System.nanoTime());
+        Workspace match = null;
+        for (Workspace candidate : idle) {
+            if (!candidate.process.isAlive()) {
+                if (idle.remove(candidate)) {
+                    release(candidate);
+                }
+            } else if (Objects.equals(candidate.format, format) && idle.remove(candidate)) {
+                match = candidate;
+                break;
+            }
+        }
+        refill();
+        if (match != null) {
+            warmStarts.incrementAndGet();
+            return match;
+        }
+        Workspace cold = start(format);
+        coldStarts.incrementAndGet();
+        // The engine works, so a paused refill can resume
+        if (paused) {
+            startSucceeded();
+            refill();
+        }
+        return cold;
+    }
+
+    /**
+     * Stop the workspace's process and empty its directory for reuse; directories that did not
+     * come from the ring are deleted
+     */
+    public void release(Workspace workspace) {
+        workspace.destroy();
+        if (!workspace.pooled) {
+            deleteDirectory(workspace.directory);
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(workspace.directory)) {
+            for (Path file : files) {
+                if (Files.isDirectory(file, LinkOption.NOFOLLOW_LINKS)) {
+                    deleteDirectory(file);
+                } else {
+                    Files.deleteIfExists(file);
+                }
+            }
+            freeSlots.add(workspace.directory);
+        } catch (IOException e) {
+            // Leave the directory behind and put a fresh one in the ring
+            System.err.println("Failed to reset LaTeX workspace: " + workspace.directory + " - " + e.getMessage());
+            replaceSlot();
+        }
+    }
+
+    /**
+     * Give up a workspace's slot without emptying it, so its files stay for inspection
+     */
+    public void retain(Workspace workspace) {
+        workspace.destroy();
+        if (workspace.pooled) {
+            replaceSlot();
+        }
+    }
+
+    /**
+     * Number of warm workers waiting for a job
+     */
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * Jobs served by a pre-started worker
+     */
+    public long getWarmStarts() {
+        return warmStarts.get();
+    }
+
+    /**
+     * Jobs that had to start their own worker
+     */
+    public long getColdStarts() {
+        return coldStarts.get();
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public String getEngine() {
+        return engine;
+    }
+
+    /**
+     * Directory holding precompiled formats; workers find them through TEXFORMATS
+     */
+    public Path getFormatDirectory() {
+        return formatDirectory;
+    }
+
+    /**
+     * Engine name and version banner, so cached output is not reused across compiler upgrades
+     */
+    public String getCompilerIdentity() {
+        String identity = compilerIdentity;
+        if (identity == null) {
+            identity = engine;
+            try {
+                Process process = new ProcessBuilder(engine, "--version").redirectErrorStream(true).start();
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+                    String firstLine = reader.readLine();
+                    if (firstLine != null) {
+                        identity = engine + ": " + firstLine;
+                    }
+                }
+                process.waitFor(5, TimeUnit.SECONDS);
+            } catch (IOException e) {
+                // Engine not installed; the name alone still keys the cache
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            compilerIdentity = identity;
+        }
+        return identity;
+    }
+
+    private synchronized void refill() {
+        if (closed || (paused && System.nanoTime() - retryAt < 0)) {
+            return;
+        }
+        Map<String, Integer> targets = targets(System.nanoTime());
+        while (true) {
+            String format = mostNeededFormat(targets);
+            if (format == null) {
+                return;
+            }
+            if (!reserveStart()) {
+                // Full: make room only by retiring a worker whose format nobody asked for lately
+                if (!retireUnwantedWorker(targets)) {
+                    return;
+                }
+                continue;
+            }
+            AtomicInteger startingFormat = startingByFormat.computeIfAbsent(format, key -> new AtomicInteger());
+            startingFormat.incrementAndGet();
+            try {
+                launcher.execute(() -> {
+                    try {
+                        if (!closed) {
+                            idle.add(start(format.equals(DEFAULT_FORMAT) ? null : format));
+                            startSucceeded();
+                        }
+                    } catch (IOException e) {
+                        // Engine missing or temp dir full; requests start workers on demand meanwhile
+                        startFailed(e);
+                    } finally {
+                        startingFormat.decrementAndGet();
+                        starting.decrementAndGet();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // Shutting down
+                startingFormat.decrementAndGet();
+                starting.decrementAndGet();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Warm workers wanted per format: the pool's places handed out one at a time to the format
+     * with the highest demand per place already given (D'Hondt). With no recent demand at all,
+     * the whole pool is kept for the engine's own format.
+     */
+    private Map<String, Integer> targets(long now) {
+        Map<String, Double> scores = new HashMap<>();
+        for (Map.Entry<String, Demand> entry : demand.entrySet()) {
+            Demand formatDemand = entry.getValue();
+            if (now - formatDemand.lastRequested() < DEMAND_WINDOW_NANOS) {
+                scores.put(entry.getKey(), formatDemand.score(now));
+            } else {
+                demand.remove(entry.getKey(), formatDemand);
+            }
+        }
+
+        Map<String, Integer> targets = new HashMap<>();
+        if (scores.isEmpty()) {
+            targets.put(DEFAULT_FORMAT, poolSize);
+            return targets;
+        }
+        for (int place = 0; place < poolSize; place++) {
+            String best = null;
+            double bestQuotient = -1;
+            for (Map.Entry<String, Double> entry : scores.entrySet()) {
+                double quotient = entry.getValue() / (targets.getOrDefault(entry.getKey(), 0) + 1);
+                if (quotient > bestQuotient) {
+                    best = entry.getKey();
+                    bestQuotient = quotient;
+                }
+            }
+            targets.merge(best, 1, Integer::sum);
+        }
+        return targets;
+    }
+
+    /**
+     * Format furthest below its target counting idle and starting workers, or null when every
+     * format has what it needs
+     */
+    private String mostNeededFormat(Map<String, Integer> targets) {
+        Map<String, Integer> warm = new HashMap<>();
+        for (Workspace workspace : idle) {
+            warm.merge(formatKey(workspace.format), 1, Integer::sum);
+        }
+        String needed = null;
+        int largestDeficit = 0;
+        for (Map.Entry<String, Integer> target : targets.entrySet()) {
+            AtomicInteger startingFormat = startingByFormat.get(target.getKey());
+            int have = warm.getOrDefault(target.getKey(), 0) + (startingFormat != null ? startingFormat.get() : 0);
+            int deficit = target.getValue() - have;
+            if (deficit > largestDeficit) {
+                needed = target.getKey();
+                largestDeficit = deficit;
+            }
+        }
+        return needed;
+    }
+
+    private boolean retireUnwantedWorker(Map<String, Integer> targets) {
+        for (Workspace candidate : idle) {
+            if (!targets.containsKey(formatKey(candidate.format)) && idle.remove(candidate)) {
+                release(candidate);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String formatKey(String format) {
+        return format != null ? format : DEFAULT_FORMAT;
+    }
+
+    /**
+     * Claim one pre-start if idle and starting workers are below the pool size. Compare-and-set, so
+     * concurrent acquires cannot both claim the last free place.
+     */
+    private boolean reserveStart() {
+        while (true) {
+            int reserved = starting.get();
+            if (closed || idle.size() + reserved >= poolSize) {
+                return false;
+            }
+            if (starting.compareAndSet(reserved, reserved + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private synchronized void startSucceeded() {
+        paused = false;
+        retryDelayNanos = MIN_RETRY_NANOS;
+    }
+
+    private synchronized void startFailed(IOException e) {
+        long now = System.nanoTime();
+        if (paused && now - retryAt < 0) {
+            // A concurrent failure already scheduled the retry
+            return;
+        }
+        long delay = retryDelayNanos;
+        retryDelayNanos = Math.min(MAX_RETRY_NANOS, delay * 2);
+        retryAt = now + delay;
+        paused = true;
+        System.err.println("Could not pre-start LaTeX worker, retrying in "
+                + TimeUnit.NANOSECONDS.toMillis(delay) + " ms: " + e.getMessage());
+        try {
+            launcher.schedule(this::refill, delay, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException rejected) {
+            // Shutting down
+        }
+    }
+
+    private Workspace start(String format) throws IOException {
+        // Jobs beyond the ring get a one-off directory rather than waiting for a slot
+        Path directory = freeSlots.poll();
+        boolean pooled = directory != null;
+        if (!pooled) {
+            directory = Files.createDirectories(root.resolve("latex_" + UUID.randomUUID().toString().substring(0, 8)));
+        }
+
+        List<String> command = new ArrayList<>();
+        command.add(engine);
+        if (format != null) {
+            command.add("-fmt=" + format);
+        }
+        command.add("-jobname=" + JOB_NAME);
+        // Terminal reads are fatal in nonstop mode, so the worker only enters it after the wait
+        command.add("\\read16 to\\ready \\nonstopmode\\input{" + JOB_NAME + ".tex}");
+
+        ProcessBuilder processBuilder = new ProcessBuilder(command);
+        processBuilder.directory(directory.toFile());
+        if (format != null) {
+            // Trailing separator keeps the default search path after the pool's formats
+            processBuilder.environment().put("TEXFORMATS", formatDirectory + File.pathSeparator);
+        }
+        // TeX writes its own .log; discarding stdout avoids blocking on a full pipe
+        processBuilder.redirectOutput(ProcessBuilder.Redirect.DISCARD);
+        processBuilder.redirectErrorStream(true);
+
+        try {
+            return new Workspace(directory, processBuilder.start(), pooled, format);
+        } catch (IOException e) {
+            if (pooled) {
+                freeSlots.add(directory);
+            } else {
+                deleteDirectory(directory);
+            }
+            throw e;
+        }
+    }
+
+    private Path resolveBaseDirectory() {
+        if (tempDir != null && !tempDir.isBlank()) {
+            return Paths.get(tempDir);
+        }
+        Path shm = Paths.get("/dev/shm");
+        if (Files.isDirectory(shm) && Files.isWritable(shm)) {
+            return shm.resolve("resume-latex");
+        }
+        return Paths.get(System.getProperty("java.io.tmpdir"), "resume-latex");
+    }
+
+    private Path newSlot() throws IOException {
+        return Files.createDirectories(root.resolve("slot-" + slotNames.getAndIncrement()));
+    }
+
+    private void replaceSlot() {
+        try {
+            freeSlots.add(newSlot());
+        } catch (IOException e) {
+            System.err.println("Failed to create LaTeX workspace slot: " + e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        closed = true;
+        launcher.shutdownNow();
+        Workspace workspace;
+        while ((workspace = idle.poll()) != null) {
+            workspace.destroy();
+        }
+        if (root != null) {
+            deleteDirectory(root);
+        }
+    }
+
+    private static void deleteDirectory(Path directory) {
+        try (var paths = Files.walk(directory)) {
+            paths.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            System.err.println("Failed to cleanup LaTeX worker directory: " + directory + " - " + e.getMessage());
+        }
+    }
+
+    /**
+     * Exponentially decaying request count for one format
+     */
+    private static final class Demand {
+        private double score;
+        private long updated;
+        private volatile long lastRequested;
+
+        synchronized void record(long now) {
+            score = score(now) + 1;
+            updated = now;
+            lastRequested = now;
+        }
+
+        synchronized double score(long now) {
+            return score * Math.pow(0.5, (double) (now - updated) / DEMAND_HALF_LIFE_NANOS);
+        }
+
+        long lastRequested() {
+            return lastRequested;
+        }
+    }
+
+    /**
+     * A started TeX process and the directory it runs in
+     */
+    public static final class Workspace {
+        private final Path directory;
+        private final Process process;
+        private final boolean pooled;
+        private final String format;
+
+        private Workspace(Path directory, Process process, boolean pooled, String format) {
+            this.directory = directory;
+            this.process = process;
+            this.pooled = pooled;
+            this.format = format;
+        }
+
+        public Path getDirectory() {
+            return directory;
+        }
+
+        /**
+         * Path of the .tex file a job must write before calling compile
+         */
+        public Path getTexFile() {
+            return directory.resolve(JOB_NAME + ".tex");
+        }
+
+        public Path getPdfFile() {
+            return directory.resolve(JOB_NAME + ".pdf");
+        }
+
+        /**
+         * Compile the .tex file and wait for the worker to exit; true if a non-empty PDF was produced
+         */
+        public boolean compile(int timeoutSeconds) throws IOException {
+            try (OutputStream stdin = process.getOutputStream()) {
+                // Releases the \read16; closing stdin makes any later terminal read fail fast
+                stdin.write("\\relax\n".getBytes(StandardCharsets.US_ASCII));
+            }
+
+            try {
+                if (!process.waitFor(timeoutSeconds, TimeUnit.SECONDS)) {
+                    throw new IOException("LaTeX compilation timed out after " + timeoutSeconds + " seconds.");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("LaTeX compilation was interrupted.", e);
+            } finally {
+                process.destroyForcibly();
+            }
+
+            Path pdf = getPdfFile();
+            return Files.exists(pdf) && Files.size(pdf) > 0;
+        }
+
+        void destroy() {
+            process.destroyForcibly();
+        }
+    }
+}
@@ -5,92 +5,176 @@ import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
 import org.apache.pdfbox.pdmodel.PDPageContentStream;
 import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.resume.util.HashUtil;
+
+import jakarta.annotation.PostConstruct;
+
 @Service
 public class PDFService {
 
     @Value("${resume.pdf.output-dir:./generated-pdfs}")
     private String outputDir;
 
-    @Value("${resume.pdf.temp-dir:./temp-latex}")
-    private String tempDir;
-
     @Value("${resume.pdf.latex-timeout:30}")
     private int latexTimeout;
 
     @Value("${resume.pdf.cleanup-temp:true}")
     private boolean cleanupTemp;
 
+    // nginx internal location aliased to the output directory; empty serves PDFs from here
+    @Value("${resume.pdf.accel-redirect-prefix:}")
+    private String accelRedirectPrefix;
+
+    @Autowired
+    private LatexWorkerPool latexWorkerPool;
+
+    @Autowired
+    private PdfCache pdfCache;
+
+    @Autowired
+    private PdfCompileScheduler compileScheduler;
+
+    @Autowired
+    private LatexFormatCache latexFormatCache;
+
+    // Steps of a LaTeX compile, timed to see where PDF latency goes
+    private enum Phase { ACQUIRE, WRITE, COMPILE, COLLECT, RESET }
+
+    private final AtomicLongArray phaseNanos = new AtomicLongArray(Phase.values().length);
+    private final AtomicLongArray phaseCounts = new AtomicLongArray(Phase.values().length);
+
+    // ETags of served PDFs, so a file is hashed once rather than on every request
+    private final Cache<String, PdfFile> pdfFiles = Caffeine.newBuilder().maximumSize(10_000).build();
+
+    @PostConstruct
+    public void init() throws IOException {
+        // Ensure output directory exists and has proper permissions
+        Path outputDirPath = Files.createDirectories(Paths.get(outputDir));
+        outputDirPath.toFile().setWritable(true, false);
+    }
+
     public String generatePDFFromLatex(String latexContent, String candidateName) throws IOException {
+        return compileScheduler.await(generatePDFFromLatexAsync(latexContent, candidateName));
+    }
+
+    /**
+     * Queue the PDF on the compile workers and return without waiting. Completes with the
+     * preview URL; a full compile queue is rejected here rather than degraded.
+     */
+    public CompletableFuture<String> generatePDFFromLatexAsync(String latexContent, String candidateName) throws IOException {
         String fileName = generateFileName(candidateName);
         Path outputPath = Paths.get(outputDir, fileName);
         
-        // Ensure output directory exists and has proper permissions
-        Path outputDirPath = Paths.get(outputDir);
-        if (!Files.exists(outputDirPath)) {
-            Files.createDirectories(outputDirPath);
+        // Byte-identical LaTeX was already compiled; copy that PDF under the new name without running TeX
+        String cacheKey = pdfCache.key(latexContent);
+        if (pdfCache.copyTo(cacheKey, outputPath)) {
+            return CompletableFuture.completedFuture("/resume/pdf/preview/" + fileName);
         }
-        outputDirPath.toFile().setWritable(true, false);
         
-        // Try LaTeX compilation first
-        try {
-            return generatePDFWithLatex(latexContent, fileName, outputPath);
-        } catch (IOException e) {
-            System.err.println("LaTeX compilation failed, falling back to simple PDF: " + e.getMessage());
-            // Fall back to simple PDF generation
-            return generateSimplePDF(latexContent, candidateName, fileName, outputPath);
-        }
+        return compileScheduler.submit(() -> {
+            // Try LaTeX compilation first
+            try {
+                String pdfUrl = generatePDFWithLatex(latexContent, fileName, outputPath);
+                // Only real LaTeX output is cached; the simple PDF fallback may be a transient failure
+                pdfCache.put(cacheKey, outputPath);
+                return pdfUrl;
+            } catch (IOException e) {
+                System.err.println("LaTeX compilation failed, falling back to simple PDF: " + e.getMessage());
+                // Fall back to simple PDF generation
+                return generateSimplePDF(latexContent, candidateName, fileName, outputPath);
+            }
+        });
     }
     
     private String generatePDFWithLatex(String latexContent, String fileName, Path outputPath) throws IOException {
-        // Create temporary directory for LaTeX compilation
-        Path tempPath = createTempDirectory();
-        String tempFileName = "resume_" + UUID.randomUUID().toString().substring(0, 8);
-        Path texFilePath = tempPath.resolve(tempFileName + ".tex");
+        // With a precompiled preamble only the document body is compiled
+        LatexFormatCache.Split split = latexFormatCache.split(latexContent);
+        String format = split != null ? latexFormatCache.formatFor(split.preamble()) : null;
+        
+        // Take a pre-started TeX worker; its directory is the compilation workspace
+        long start = System.nanoTime();
+        LatexWorkerPool.Workspace workspace = latexWorkerPool.acquire(format);
+        Path tempPath = workspace.getDirectory();
+        start = recordPhase(Phase.ACQUIRE, start);
         
         try {
-            // Write LaTeX content to temporary file
-            writeLatexFile(texFilePath, latexContent);
+            // Write LaTeX content to the worker's input file
+            writeLatexFile(workspace.getTexFile(), format != null ? split.body() : latexContent);
+            start = recordPhase(Phase.WRITE, start);
             
             // Compile LaTeX to PDF
-            boolean compilationSuccess = compileLatexToPDF(tempPath, tempFileName);
+            boolean compilationSuccess = workspace.compile(latexTimeout);
+            if (!compilationSuccess) {
+                // The fallback compiler needs the complete document
+                if (format != null) {
+                    writeLatexFile(workspace.getTexFile(), latexContent);
+                }
+                compilationSuccess = tryXeLatex(tempPath, LatexWorkerPool.JOB_NAME);
+            }
+            start = recordPhase(Phase.COMPILE, start);
             
             if (!compilationSuccess) {
                 throw new IOException("LaTeX compilation failed. Check the LaTeX syntax.");
             }
             
             // Move generated PDF to output directory
-            Path generatedPdfPath = tempPath.resolve(tempFileName + ".pdf");
-            if (!Files.exists(generatedPdfPath)) {
-                throw new IOException("PDF file was not generated during LaTeX compilation.");
-            }
-            
-            Files.move(generatedPdfPath, outputPath);
+            Files.move(workspace.getPdfFile(), outputPath);
+            start = recordPhase(Phase.COLLECT, start);
             
             return "/resume/pdf/preview/" + fileName;
             
         } finally {
-            // Clean up temporary files
+            // Empty the workspace for the next job, or keep its files when cleanup is disabled
             if (cleanupTemp) {
-                cleanupTempDirectory(tempPath);
+                latexWorkerPool.release(workspace);
+                recordPhase(Phase.RESET, start);
+            } else {
+                latexWorkerPool.retain(workspace);
             }
         }
     }
+
+    /**
+     * Average time per compile phase in milliseconds, in pipeline order
+     */
+    public Map<String, Double> getPhaseTimings() {
+        Map<String, Double> timings = new LinkedHashMap<>();
+        for (Phase phase : Phase.values()) {
+            long count = phaseCounts.get(phase.ordinal());
+            timings.put(phase.name().toLowerCase(), count > 0 ? phaseNanos.get(phase.ordinal()) / 1e6 / count : 0.0);
+        }
+        return timings;
+    }
+
+    private long recordPhase(Phase phase, long start) {
+        long now = System.nanoTime();
+        phaseNanos.addAndGet(phase.ordinal(), now - start);
+        phaseCounts.incrementAndGet(phase.ordinal());
+        return now;
+    }
     
     private String generateSimplePDF(String latexContent, String candidateName, String fileName, Path outputPath) throws IOException {
         // Create a simple PDF with the content using PDFBox
@@ -135,105 +219,11 @@ public class PDFService {
         return "/resume/pdf/preview/" + fileName;
     }
     
-    private Path createTempDirectory() throws IOException {
-        Path tempPath = Paths.get(tempDir, "latex_" + UUID.randomUUID().toString().substring(0, 8));
-        Files.createDirectories(tempPath);
-        
-        // Ensure the directory has proper write permissions
-        tempPath.toFile().setWritable(true, false); // Make writable for all users
-        
-        // Test write permissions by creating a test file
-        Path testFile = tempPath.resolve("test_write.tmp");
-        try {
-            Files.write(testFile, "test".getBytes());
-            Files.delete(testFile);
-        } catch (IOException e) {
-            throw new IOException("Cannot write to temporary directory: " + tempPath, e);
-        }
-        
-        return tempPath;
-    }
-    
     private void writeLatexFile(Path texFilePath, String latexContent) throws IOException {
-        // Ensure the parent directory exists and is writable
-        Path parentDir = texFilePath.getParent();
-        if (!Files.exists(parentDir)) {
-            Files.createDirectories(parentDir);
-        }
-        
-        // Set write permissions on the parent directory
-        parentDir.toFile().setWritable(true, false);
-        
+        // The workspace directory already exists and belongs to this process
         try (BufferedWriter writer = Files.newBufferedWriter(texFilePath)) {
             writer.write(latexContent);
         }
-        
-        // Ensure the file is readable
-        texFilePath.toFile().setReadable(true, false);
-    }
-    
-    private boolean compileLatexToPDF(Path tempPath, String fileName) throws IOException {
-        ProcessBuilder processBuilder = new ProcessBuilder();
-        
-        // Set up the LaTeX compilation command
-        // Try pdflatex first, then xelatex as fallback
-        String[] commands = {
-            "pdflatex",
-            "-interaction=nonstopmode",
-            fileName + ".tex"
-        };
-        
-        processBuilder.command(commands);
-        processBuilder.directory(tempPath.toFile());
-        
-        // Capture both stdout and stderr
-        processBuilder.redirectErrorStream(true);
-        
-        Process process = null;
-        try {
-            process = processBuilder.start();
-            
-            // Wait for compilation with timeout
-            boolean finished = process.waitFor(latexTimeout, TimeUnit.SECONDS);
-            
-            if (!finished) {
-                process.destroyForcibly();
-                throw new IOException("LaTeX compilation timed out after " + latexTimeout + " seconds.");
-            }
-            
-            int exitCode = process.exitValue();
-            
-            // Read the output for debugging
-            try (BufferedReader reader = new BufferedReader(
-                    new InputStreamReader(process.getInputStream()))) {
-                StringBuilder output = new StringBuilder();
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    output.append(line).append("\n");
-                }
-            }
-            
-            // Check if PDF was generated successfully
-            Path pdfPath = tempPath.resolve(fileName + ".pdf");
-            if (Files.exists(pdfPath) && Files.size(pdfPath) > 0) {
-                return true;
-            }
-            
-            // If pdflatex failed, try xelatex as fallback
-            if (exitCode != 0) {
-                return tryXeLatex(tempPath, fileName);
-            }
-            
-            return false;
-            
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new IOException("LaTeX compilation was interrupted.", e);
-        } finally {
-            if (process != null) {
-                process.destroyForcibly();
-            }
-        }
     }
     
     private boolean tryXeLatex(Path tempPath, String fileName) throws IOException {
@@ -247,6 +237,8 @@ public class PDFService {
         
         processBuilder.command(commands);
         processBuilder.directory(tempPath.toFile());
+        // TeX writes its own .log; discarding stdout avoids blocking on a full pipe
+        processBuilder.redirectOutput(ProcessBuilder.Redirect.DISCARD);
         processBuilder.redirectErrorStream(true);
         
         Process process = null;
@@ -260,18 +252,6 @@ public class PDFService {
                 return false;
             }
             
-            
-            
-            // Read the output for debugging
-            try (BufferedReader reader = new BufferedReader(
-                    new InputStreamReader(process.getInputStream()))) {
-                StringBuilder output = new StringBuilder();
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    output.append(line).append("\n");
-                }
-            }
-            
             // Check if PDF was generated successfully
             Path pdfPath = tempPath.resolve(fileName + ".pdf");
             return Files.exists(pdfPath) && Files.size(pdfPath) > 0;
@@ -286,38 +266,56 @@ public class PDFService {
         }
     }
     
-    private void cleanupTempDirectory(Path tempPath) {
-        try {
-            // Delete all files in the temp directory
-            Files.walk(tempPath)
-                .sorted((a, b) -> b.compareTo(a)) // Delete files before directories
-                .forEach(path -> {
-                    try {
-                        Files.deleteIfExists(path);
-                    } catch (IOException e) {
-                        System.err.println("Failed to delete temp file: " + path + " - " + e.getMessage());
-                    }
-                });
-        } catch (IOException e) {
-            System.err.println("Failed to cleanup temp directory: " + tempPath + " - " + e.getMessage());
-        }
-    }
-    
     private String generateFileName(String candidateName) {
         String sanitizedName = candidateName.replaceAll("[^a-zA-Z0-9]", "_");
         String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-        return sanitizedName + "_" + timestamp + ".pdf";
+        // The timestamp has one-second resolution; the suffix keeps a double submit from reusing a name
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return sanitizedName + "_" + timestamp + "_" + suffix + ".pdf";
     }
     
-    public Resource loadPDFAsResource(String fileName) throws IOException {
-        Path filePath = Paths.get(outputDir, fileName);
-        Resource resource = new UrlResource(filePath.toUri());
+    /**
+     * A generated PDF with a strong ETag from its content hash. The hash is computed once per
+     * file version (size and modification time).
+     */
+    public PdfFile getPdfFile(String fileName) throws IOException {
+        Path path = resolvePdfPath(fileName);
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            throw new IOException("PDF file not found: " + fileName);
+        }
+        long size = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
         
-        if (resource.exists()) {
-            return resource;
-        } else {
+        PdfFile cached = pdfFiles.getIfPresent(fileName);
+        if (cached != null && cached.size() == size && cached.lastModified() == lastModified) {
+            return cached;
+        }
+        PdfFile pdfFile = new PdfFile(fileName, path, size, lastModified, HashUtil.sha256Hex(path));
+        pdfFiles.put(fileName, pdfFile);
+        return pdfFile;
+    }
+    
+    /**
+     * nginx internal URI for the PDF when files are handed to nginx with X-Accel-Redirect, else null
+     */
+    public String getAccelRedirect(PdfFile pdfFile) {
+        if (accelRedirectPrefix == null || accelRedirectPrefix.isBlank()) {
+            return null;
+        }
+        return accelRedirectPrefix + pdfFile.fileName();
+    }
+    
+    private Path resolvePdfPath(String fileName) throws IOException {
+        Path directory = Paths.get(outputDir).toAbsolutePath().normalize();
+        Path path = directory.resolve(fileName).normalize();
+        // Only plain file names inside the output directory
+        if (!directory.equals(path.getParent())) {
             throw new IOException("PDF file not found: " + fileName);
         }
+        return path;
     }
     
     /**
@@ -381,4 +379,9 @@ public class PDFService {
             return "Error checking LaTeX compiler: " + e.getMessage();
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * Location and validators of a generated PDF
+     */
+    public record PdfFile(String fileName, Path path, long size, long lastModified, String etag) {}
+}
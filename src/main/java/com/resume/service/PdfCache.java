@@ -0,0 +1,228 @@
+package com.resume.service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.resume.util.HashUtil;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Content-addressed cache of compiled PDFs. Entries are keyed by the SHA-256 of the compiler
+ * identity plus the LaTeX source, so byte-identical LaTeX is served without running TeX.
+ *
+ * Cached artifacts live in their own directory as {key}.pdf, separate from the user-facing files
+ * in the output directory. Artifacts are copied in and out rather than hard-linked, so no output
+ * file shares an inode with the cache: rewriting an output file cannot corrupt the artifact, and
+ * evicting an artifact never breaks a preview, public or embed URL already handed out. The index
+ * is rebuilt from the cache directory at startup, so max-bytes bounds the disk it uses across
+ * restarts.
+ */
+@Service
+public class PdfCache {
+
+    private static final String EXTENSION = ".pdf";
+
+    @Value("${resume.pdf.output-dir:./generated-pdfs}")
+    private String outputDir;
+
+    // Empty means a .pdf-cache directory inside the output dir
+    @Value("${resume.pdf.cache.dir:}")
+    private String cacheDir;
+
+    @Value("${resume.pdf.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${resume.pdf.cache.max-bytes:536870912}")
+    private long maxBytes;
+
+    @Autowired
+    private LatexWorkerPool latexWorkerPool;
+
+    private Path directory;
+    private Cache<String, Long> cache;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    @PostConstruct
+    public void init() throws IOException {
+        directory = cacheDir != null && !cacheDir.isBlank()
+                ? Paths.get(cacheDir)
+                : Paths.get(outputDir, ".pdf-cache");
+        Files.createDirectories(directory);
+
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, Long sizeBytes) -> (int) Math.min(Integer.MAX_VALUE, sizeBytes))
+                // Runs inside the eviction, so a re-put artifact is never deleted by a late listener
+                .evictionListener((String key, Long sizeBytes, RemovalCause cause) -> deleteQuietly(artifact(key)))
+                // Evictions delete files; doing them on the caller keeps disk usage in step with the index
+                .executor(Runnable::run)
+                .build();
+
+        if (enabled) {
+            rebuildIndex();
+        }
+    }
+
+    /**
+     * Cache key for LaTeX source compiled by the configured engine
+     */
+    public String key(String latexContent) {
+        return HashUtil.sha256Hex(latexWorkerPool.getCompilerIdentity() + "\n" + latexContent);
+    }
+
+    /**
+     * Copy the cached PDF for this key to target, which must not exist yet. Returns false, and
+     * counts a miss, when the key is unknown or its artifact has gone. Failures writing target
+     * are thrown and leave the cache entry in place.
+     */
+    public boolean copyTo(String key, Path target) throws IOException {
+        if (!enabled) {
+            return false;
+        }
+        if (cache.getIfPresent(key) != null) {
+            try {
+                copy(artifact(key), target);
+                hits.incrementAndGet();
+                return true;
+            } catch (NoSuchFileException e) {
+                if (Files.exists(artifact(key))) {
+                    // The target's directory is missing, not the artifact
+                    throw e;
+                }
+                // Deleted outside the application, or evicted while we were copying
+                dropIfMissing(key);
+            }
+        }
+        misses.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Store a freshly compiled PDF under its key. The file itself is left where it is.
+     */
+    public void put(String key, Path pdf) {
+        if (!enabled) {
+            return;
+        }
+        Path staging = directory.resolve(key + "." + UUID.randomUUID().toString().substring(0, 8) + ".tmp");
+        try {
+            Files.copy(pdf, staging);
+            Files.move(staging, artifact(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            cache.put(key, Files.size(artifact(key)));
+        } catch (IOException e) {
+            System.err.println("Failed to cache compiled PDF: " + pdf + " - " + e.getMessage());
+            deleteQuietly(staging);
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Bytes of cached artifacts currently indexed
+     */
+    public long getWeightBytes() {
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
+    /**
+     * Index artifacts left by a previous run, in the order they were written; whatever no longer
+     * fits in max-bytes is evicted and deleted
+     */
+    private void rebuildIndex() throws IOException {
+        List<Path> artifacts = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(".tmp")) {
+                    // Interrupted put
+                    deleteQuietly(file);
+                } else if (name.endsWith(EXTENSION) && Files.isRegularFile(file)) {
+                    artifacts.add(file);
+                }
+            }
+        }
+        artifacts.sort(Comparator.comparingLong(PdfCache::lastModifiedMillis));
+        for (Path file : artifacts) {
+            String name = file.getFileName().toString();
+            cache.put(name.substring(0, name.length() - EXTENSION.length()), Files.size(file));
+        }
+        if (!artifacts.isEmpty()) {
+            System.out.println("PDF cache: indexed " + cache.estimatedSize() + " compiled PDFs in " + directory);
+        }
+    }
+
+    private Path artifact(String key) {
+        return directory.resolve(key + EXTENSION);
+    }
+
+    /**
+     * Drop the entry for key unless a concurrent put has written its artifact again. An explicit
+     * removal does not run the eviction listener, so the entry only goes once the file has.
+     */
+    private void dropIfMissing(String key) {
+        cache.asMap().computeIfPresent(key, (k, sizeBytes) -> {
+            return Files.exists(artifact(k)) ? sizeBytes : null;
+        });
+    }
+
+    private static void copy(Path source, Path target) throws IOException {
+        try {
+            Files.copy(source, target);
+        } catch (FileAlreadyExistsException | NoSuchFileException e) {
+            throw e;
+        } catch (IOException e) {
+            // Don't leave a truncated PDF behind
+            deleteQuietly(target);
+            throw e;
+        }
+    }
+
+    private static long lastModifiedMillis(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            System.err.println("Failed to delete cached PDF: " + path + " - " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.resume.service;
+
+/**
+ * Thrown when the PDF compile queue is full, so the caller can answer 429 instead of waiting
+ */
+public class PdfCompileRejectedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public PdfCompileRejectedException(int queueCapacity, long retryAfterSeconds) {
+        super("PDF compilation queue is full (" + queueCapacity + " waiting), retry in " + retryAfterSeconds + "s");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,148 @@
+package com.resume.service;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.resume.model.PdfQueueStats;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Admission control for TeX compiles. A fixed number of workers (one per core by default) run
+ * compiles from a bounded queue; when the queue is full a request is rejected immediately with a
+ * retry estimate instead of piling up more TeX processes than the machine can run.
+ */
+@Service
+public class PdfCompileScheduler {
+
+    // 0 means one worker per available core
+    @Value("${resume.pdf.compile.workers:0}")
+    private int configuredWorkers;
+
+    @Value("${resume.pdf.compile.queue-capacity:16}")
+    private int queueCapacity;
+
+    private int workers;
+    private ThreadPoolExecutor executor;
+
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong waitNanosTotal = new AtomicLong();
+    private final AtomicLong compileNanosTotal = new AtomicLong();
+    private final AtomicLong started = new AtomicLong();
+    private final AtomicLong finished = new AtomicLong();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+    @PostConstruct
+    public void init() {
+        workers = configuredWorkers > 0 ? configuredWorkers : Runtime.getRuntime().availableProcessors();
+        // Platform threads in either thread mode: the pool size is the CPU budget for TeX processes
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                Thread.ofPlatform().name("pdf-compile-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Run a compile on a scheduler worker and wait for it; rejects at once when the queue is full
+     */
+    public <T> T run(Callable<T> compile) throws IOException {
+        return await(submit(compile));
+    }
+
+    /**
+     * Queue a compile without waiting for it; rejects at once when the queue is full
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> compile) {
+        long submitted = System.nanoTime();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                long start = System.nanoTime();
+                long waited = start - submitted;
+                waitNanosTotal.addAndGet(waited);
+                maxWaitNanos.accumulate(waited);
+                started.incrementAndGet();
+                try {
+                    T value = compile.call();
+                    recordCompile(start);
+                    result.complete(value);
+                } catch (Throwable e) {
+                    recordCompile(start);
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            throw new PdfCompileRejectedException(queueCapacity, estimateRetryAfterSeconds());
+        }
+        return result;
+    }
+
+    /**
+     * Wait for a submitted compile, unwrapping the IOException it failed with
+     */
+    public <T> T await(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for PDF compilation.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException("PDF compilation failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    private void recordCompile(long start) {
+        compileNanosTotal.addAndGet(System.nanoTime() - start);
+        finished.incrementAndGet();
+    }
+
+    /**
+     * Time for the current backlog to drain at the average compile time, at least one second
+     */
+    long estimateRetryAfterSeconds() {
+        long done = finished.get();
+        double averageCompileSeconds = done > 0 ? compileNanosTotal.get() / 1e9 / done : 1.0;
+        int backlog = executor.getQueue().size() + executor.getActiveCount();
+        return Math.max(1, (long) Math.ceil(averageCompileSeconds * backlog / workers));
+    }
+
+    public PdfQueueStats getStats() {
+        long begun = started.get();
+        long done = finished.get();
+        return new PdfQueueStats(
+                workers,
+                queueCapacity,
+                executor.getQueue().size(),
+                executor.getActiveCount(),
+                done,
+                rejected.get(),
+                begun > 0 ? waitNanosTotal.get() / 1e6 / begun : 0,
+                maxWaitNanos.get() / 1e6,
+                done > 0 ? compileNanosTotal.get() / 1e6 / done : 0);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
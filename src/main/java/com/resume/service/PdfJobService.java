@@ -0,0 +1,117 @@
+package com.resume.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.resume.model.GenerateResumeResponse;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Background PDF generation jobs. Submitting queues the compile on the PDF compile workers and
+ * returns a job id at once; clients poll the job or subscribe to its completion, so a request
+ * no longer holds a connection open for the length of a TeX run. Finished jobs are kept for a
+ * retention period and then forgotten; the PDFs themselves stay in the output directory.
+ */
+@Service
+public class PdfJobService {
+
+    static final String STATUS_QUEUED = "Queued";
+    static final String STATUS_GENERATED = "Generated";
+    static final String STATUS_FAILED = "Failed";
+
+    @Autowired
+    private PDFService pdfService;
+
+    @Value("${resume.pdf.jobs.retention-minutes:60}")
+    private long retentionMinutes;
+
+    @Value("${resume.pdf.jobs.max-jobs:10000}")
+    private long maxJobs;
+
+    private Cache<String, PdfJob> jobs;
+
+    @PostConstruct
+    public void init() {
+        jobs = Caffeine.newBuilder()
+                .maximumSize(maxJobs)
+                .expireAfterWrite(Duration.ofMinutes(retentionMinutes))
+                .build();
+    }
+
+    /**
+     * Queue a PDF for the user; throws PdfCompileRejectedException when the compile queue is full
+     */
+    public PdfJob submit(String username, String latexContent, String candidateName) throws IOException {
+        CompletableFuture<String> pdfUrl = pdfService.generatePDFFromLatexAsync(latexContent, candidateName);
+        PdfJob job = new PdfJob(UUID.randomUUID().toString(), username, latexContent, pdfUrl);
+        jobs.put(job.getJobId(), job);
+        return job;
+    }
+
+    /**
+     * The user's job with this id, or null if it is unknown, expired or belongs to someone else
+     */
+    public PdfJob getJob(String username, String jobId) {
+        PdfJob job = jobs.getIfPresent(jobId);
+        return job != null && job.username.equals(username) ? job : null;
+    }
+
+    /**
+     * A submitted PDF job and its pending result
+     */
+    public static final class PdfJob {
+        private final String jobId;
+        private final String username;
+        private final String latexContent;
+        private final CompletableFuture<String> pdfUrl;
+
+        private PdfJob(String jobId, String username, String latexContent, CompletableFuture<String> pdfUrl) {
+            this.jobId = jobId;
+            this.username = username;
+            this.latexContent = latexContent;
+            this.pdfUrl = pdfUrl;
+        }
+
+        public String getJobId() {
+            return jobId;
+        }
+
+        public boolean isDone() {
+            return pdfUrl.isDone();
+        }
+
+        /**
+         * Completes, normally or not, when the PDF has been generated or has failed
+         */
+        public CompletableFuture<GenerateResumeResponse> completion() {
+            return pdfUrl.handle((url, error) -> toResponse());
+        }
+
+        /**
+         * Current state in the same shape /resume/generate responds with
+         */
+        public GenerateResumeResponse toResponse() {
+            if (!pdfUrl.isDone()) {
+                return new GenerateResumeResponse(jobId, STATUS_QUEUED, "Resume PDF is being generated", latexContent);
+            }
+            try {
+                return new GenerateResumeResponse(jobId, STATUS_GENERATED, "Resume generated successfully",
+                        latexContent, pdfUrl.join());
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                return new GenerateResumeResponse(jobId, STATUS_FAILED,
+                        "Resume generation failed: " + cause.getMessage(), latexContent);
+            }
+        }
+    }
+}
@@ -26,10 +26,14 @@ public class ProjectService {
     @Autowired
     private UserRepository userRepository;
     
+    @Autowired
+    private ResumeSnapshotCache resumeSnapshots;
+    
     /**
      * Save or update a project
      */
     public Project saveProject(String username, Project project) {
+        resumeSnapshots.invalidate(username);
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
         
@@ -38,13 +42,20 @@ public class ProjectService {
     }
     
     /**
-     * Get all projects for a user, ordered by priority
+     * Get all projects for a user with bullets and technologies loaded, ordered by priority
      */
     public List<Project> getAllProjects(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
         
-        return projectRepository.findByUserOrderByPriorityDesc(user);
+        List<Project> projects = projectRepository.findByUserWithBullets(user);
+        
+        // Initialize technologies for all projects in one query
+        if (!projects.isEmpty()) {
+            projectRepository.fetchTechnologiesByUser(user);
+        }
+        
+        return projects;
     }
     
     /**
@@ -86,6 +97,7 @@ public class ProjectService {
      * Delete a project
      */
     public void deleteProject(String username, Long projectId) {
+        resumeSnapshots.invalidate(username);
         Project project = getProjectByIdForUser(username, projectId);
         projectRepository.delete(project);
     }
@@ -94,6 +106,7 @@ public class ProjectService {
      * Delete all projects for a user
      */
     public void deleteAllProjects(String username) {
+        resumeSnapshots.invalidate(username);
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
         
@@ -104,6 +117,7 @@ public class ProjectService {
      * Add a bullet point to a project
      */
     public ProjectBullet addBulletToProject(String username, Long projectId, String bulletText, Integer orderIndex) {
+        resumeSnapshots.invalidate(username);
         Project project = getProjectByIdForUser(username, projectId);
         
         ProjectBullet bullet = new ProjectBullet(project, bulletText, orderIndex);
@@ -117,6 +131,7 @@ public class ProjectService {
      * Remove a bullet point from a project
      */
     public void removeBulletFromProject(String username, Long projectId, Long bulletId) {
+        resumeSnapshots.invalidate(username);
         Project project = getProjectByIdForUser(username, projectId);
         
         Optional<ProjectBullet> bulletToRemove = project.getBullets().stream()
@@ -133,6 +148,7 @@ public class ProjectService {
      * Add a technology to a project
      */
     public ProjectTechnology addTechnologyToProject(String username, Long projectId, String technology) {
+        resumeSnapshots.invalidate(username);
         Project project = getProjectByIdForUser(username, projectId);
         
         ProjectTechnology tech = new ProjectTechnology(project, technology);
@@ -146,6 +162,7 @@ public class ProjectService {
      * Remove a technology from a project
      */
     public void removeTechnologyFromProject(String username, Long projectId, Long technologyId) {
+        resumeSnapshots.invalidate(username);
         Project project = getProjectByIdForUser(username, projectId);
         
         Optional<ProjectTechnology> techToRemove = project.getTechnologiesList().stream()
@@ -162,6 +179,7 @@ public class ProjectService {
      * Update project priority
      */
     public Project updateProjectPriority(String username, Long projectId, Integer priority) {
+        resumeSnapshots.invalidate(username);
         Project project = getProjectByIdForUser(username, projectId);
         project.setPriority(priority);
         return projectRepository.save(project);
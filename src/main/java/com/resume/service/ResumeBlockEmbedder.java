@@ -1,14 +1,17 @@
 package com.resume.service;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.resume.model.EmbeddingCacheStats;
+import com.resume.model.EmbeddingVector;
 import com.resume.model.ExperienceProject;
 import com.resume.model.ResumeBlock;
 import com.resume.model.ScoredBlock;
@@ -20,8 +23,12 @@ public class ResumeBlockEmbedder {
     @Autowired
     private EmbeddingService embeddingService;
 
-    // Cache for embeddings to avoid redundant API calls
-    private final Map<String, List<Double>> embeddingCache = new ConcurrentHashMap<>();
+    @Autowired
+    private BlockEmbeddingStore embeddingStore;
+
+    // Bounded in-memory cache for embeddings to avoid redundant store reads and API calls
+    @Autowired
+    private EmbeddingCache embeddingCache;
 
     /**
      * Generate text representation of a resume block for embedding
@@ -72,13 +79,21 @@ public class ResumeBlockEmbedder {
     /**
      * Get or generate embedding for a block
      */
-    public List<Double> getBlockEmbedding(ResumeBlock block) {
+    public EmbeddingVector getBlockEmbedding(ResumeBlock block) {
         String blockText = generateBlockText(block);
-        String cacheKey = block.getId() + "_" + blockText.hashCode();
+        String contentHash = BlockEmbeddingStore.contentHash(blockText);
+        String cacheKey = getBlockCacheKey(block, contentHash);
         
-        return embeddingCache.computeIfAbsent(cacheKey, key -> {
+        return embeddingCache.get(cacheKey, key -> {
             try {
-                return embeddingService.getEmbedding(blockText);
+                // Read through the persistent store before calling the API
+                EmbeddingVector stored = embeddingStore.findEmbeddings(List.of(contentHash)).get(contentHash);
+                if (stored != null) {
+                    return stored;
+                }
+                EmbeddingVector embedding = embeddingService.getEmbedding(blockText);
+                embeddingStore.saveAsync(block.getId(), contentHash, embedding);
+                return embedding;
             } catch (Exception e) {
                 // Return null if embedding fails, will trigger fallback
                 return null;
@@ -86,25 +101,131 @@ public class ResumeBlockEmbedder {
         });
     }
 
+    /**
+     * Get or generate embedding for a job description
+     */
+    public EmbeddingVector getJobEmbedding(String jobDescription) {
+        return embeddingCache.get(getJobCacheKey(jobDescription),
+                key -> embeddingService.getEmbedding(jobDescription));
+    }
+
+    /**
+     * Resolve every uncached block (and the job description) with at most one store lookup
+     * and one batched embedding call. Failures are swallowed; blocks left uncached fall back
+     * to keyword matching when scored.
+     */
+    public void preloadEmbeddings(List<ResumeBlock> blocks, String jobDescription) {
+        Map<String, PendingEmbedding> missing = new LinkedHashMap<>();
+
+        if (jobDescription != null) {
+            String jobKey = getJobCacheKey(jobDescription);
+            if (embeddingCache.getIfPresent(jobKey) == null) {
+                missing.put(jobKey, new PendingEmbedding(null, null, jobDescription));
+            }
+        }
+
+        for (ResumeBlock block : blocks) {
+            String blockText = generateBlockText(block);
+            String contentHash = BlockEmbeddingStore.contentHash(blockText);
+            String cacheKey = getBlockCacheKey(block, contentHash);
+            if (embeddingCache.getIfPresent(cacheKey) == null) {
+                missing.put(cacheKey, new PendingEmbedding(block.getId(), contentHash, blockText));
+            }
+        }
+
+        // Serve what we can from the persistent store
+        List<String> contentHashes = missing.values().stream()
+                .map(PendingEmbedding::contentHash)
+                .filter(hash -> hash != null)
+                .toList();
+        Map<String, EmbeddingVector> stored = embeddingStore.findEmbeddings(contentHashes);
+        missing.entrySet().removeIf(entry -> {
+            EmbeddingVector embedding = entry.getValue().contentHash() != null
+                    ? stored.get(entry.getValue().contentHash()) : null;
+            if (embedding != null) {
+                embeddingCache.put(entry.getKey(), embedding);
+                return true;
+            }
+            return false;
+        });
+
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<String> keys = new ArrayList<>(missing.keySet());
+            List<String> texts = missing.values().stream().map(PendingEmbedding::text).toList();
+            List<EmbeddingVector> embeddings = embeddingService.getEmbeddings(texts);
+            for (int i = 0; i < keys.size(); i++) {
+                EmbeddingVector embedding = embeddings.get(i);
+                if (embedding == null) {
+                    continue;
+                }
+                embeddingCache.put(keys.get(i), embedding);
+                PendingEmbedding pending = missing.get(keys.get(i));
+                if (pending.blockId() != null) {
+                    embeddingStore.saveAsync(pending.blockId(), pending.contentHash(), embedding);
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("Batch embedding failed, falling back to per-block scoring: " + e.getMessage());
+        }
+    }
+
+    private String getBlockCacheKey(ResumeBlock block, String contentHash) {
+        return block.getId() + "_" + contentHash;
+    }
+
+    private String getJobCacheKey(String jobDescription) {
+        return "job_" + jobDescription.hashCode();
+    }
+
+    // Text still waiting for an embedding; blockId and contentHash are null for job descriptions
+    private record PendingEmbedding(String blockId, String contentHash, String text) {}
+
     /**
      * Score blocks using embeddings and fallback to keyword matching
      */
     public List<ScoredBlock> scoreBlocksWithEmbeddings(List<ResumeBlock> blocks, String jobDescription, 
                                                        KeywordMatchingService keywordService) {
+        return scoreBlocksWithEmbeddings(blocks, jobDescription, keywordService, null);
+    }
+
+    /**
+     * Score blocks using embeddings and fallback to keyword matching, reusing the keyword index for indexKey
+     */
+    public List<ScoredBlock> scoreBlocksWithEmbeddings(List<ResumeBlock> blocks, String jobDescription, 
+                                                       KeywordMatchingService keywordService, String indexKey) {
         List<ScoredBlock> scoredBlocks = new ArrayList<>();
         
+        // Resolve all cache misses for these blocks in one round trip
+        preloadEmbeddings(blocks, jobDescription);
+        
         // Try to get job description embedding
-        List<Double> jobEmbedding;
+        EmbeddingVector jobEmbedding;
         try {
-            jobEmbedding = embeddingService.getEmbedding(jobDescription);
+            jobEmbedding = embeddingCache.peek(getJobCacheKey(jobDescription));
+            if (jobEmbedding == null) {
+                jobEmbedding = getJobEmbedding(jobDescription);
+            }
         } catch (Exception e) {
             // If embedding fails, use keyword matching for all blocks
-            return scoreBlocksWithKeywords(blocks, jobDescription, keywordService);
+            return scoreBlocksWithKeywords(blocks, jobDescription, keywordService, indexKey);
         }
         
+        // Keyword scores for all blocks are computed at most once, on the first fallback
+        List<Double> keywordScores = null;
+        
         // Score each block
-        for (ResumeBlock block : blocks) {
-            List<Double> blockEmbedding = getBlockEmbedding(block);
+        for (int i = 0; i < blocks.size(); i++) {
+            ResumeBlock block = blocks.get(i);
+            // Preloaded entries were already counted as hits or misses
+            EmbeddingVector blockEmbedding = embeddingCache.peek(
+                    getBlockCacheKey(block, BlockEmbeddingStore.contentHash(generateBlockText(block))));
+            if (blockEmbedding == null) {
+                blockEmbedding = getBlockEmbedding(block);
+            }
             
             if (blockEmbedding != null && jobEmbedding != null) {
                 // Use embedding similarity
@@ -112,8 +233,10 @@ public class ResumeBlockEmbedder {
                 scoredBlocks.add(new ScoredBlock(block, similarity, true));
             } else {
                 // Fallback to keyword matching
-                double keywordScore = keywordService.calculateScore(block, jobDescription);
-                scoredBlocks.add(new ScoredBlock(block, keywordScore, false));
+                if (keywordScores == null) {
+                    keywordScores = keywordService.calculateScores(indexKey, blocks, jobDescription);
+                }
+                scoredBlocks.add(new ScoredBlock(block, keywordScores.get(i), false));
             }
         }
         
@@ -127,12 +250,10 @@ public class ResumeBlockEmbedder {
      * Score blocks using only keyword matching (fallback method)
      */
     private List<ScoredBlock> scoreBlocksWithKeywords(List<ResumeBlock> blocks, String jobDescription, 
-                                                     KeywordMatchingService keywordService) {
-        return blocks.stream()
-                .map(block -> {
-                    double score = keywordService.calculateScore(block, jobDescription);
-                    return new ScoredBlock(block, score, false);
-                })
+                                                     KeywordMatchingService keywordService, String indexKey) {
+        List<Double> scores = keywordService.calculateScores(indexKey, blocks, jobDescription);
+        return IntStream.range(0, blocks.size())
+                .mapToObj(i -> new ScoredBlock(blocks.get(i), scores.get(i), false))
                 .sorted((a, b) -> Double.compare(b.getSimilarityScore(), a.getSimilarityScore()))
                 .collect(Collectors.toList());
     }
@@ -141,13 +262,20 @@ public class ResumeBlockEmbedder {
      * Clear embedding cache
      */
     public void clearCache() {
-        embeddingCache.clear();
+        embeddingCache.invalidateAll();
     }
 
     /**
      * Get cache size for monitoring
      */
-    public int getCacheSize() {
+    public long getCacheSize() {
         return embeddingCache.size();
     }
+
+    /**
+     * Get per-tier hit/miss/eviction counters for monitoring
+     */
+    public EmbeddingCacheStats getCacheStats() {
+        return new EmbeddingCacheStats(embeddingCache.stats(), embeddingStore.stats());
+    }
 } 
\ No newline at end of file
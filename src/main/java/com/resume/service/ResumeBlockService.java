@@ -2,6 +2,7 @@ package com.resume.service;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -12,12 +13,14 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.resume.model.Certification;
 import com.resume.model.CertificationBlock;
 import com.resume.model.Education;
 import com.resume.model.EducationBlock;
+import com.resume.model.EmbeddingCacheStats;
 import com.resume.model.Experience;
 import com.resume.model.Project;
 import com.resume.model.ResumeBlock;
@@ -27,6 +30,8 @@ import com.resume.model.Skill;
 import com.resume.model.SkillsBlock;
 import com.resume.model.User;
 import com.resume.repository.UserRepository;
+import com.resume.service.ResumeGraphLoader.ResumeGraph;
+import com.resume.util.DateRangeParser;
 
 @Service
 public class ResumeBlockService {
@@ -37,27 +42,28 @@ public class ResumeBlockService {
     @Value("${resume.max.projects:3}")
     private int maxProjects;
 
+    // embedding (default), bm25 (offline, no API calls) or hybrid (BM25 shortlist re-ranked by embeddings)
+    @Value("${resume.ranking.mode:embedding}")
+    private String rankingMode;
 
-    @Autowired
-    private ResumeBlockEmbedder embedder;
+    @Value("${resume.ranking.rerank-candidates:10}")
+    private int rerankCandidates;
 
-    @Autowired
-    private KeywordMatchingService keywordService;
 
     @Autowired
-    private ExperienceService experienceService;
+    private ResumeBlockEmbedder embedder;
 
     @Autowired
-    private ProjectService projectService;
+    private KeywordMatchingService keywordService;
 
     @Autowired
-    private SkillService skillService;
+    private Bm25RankingService bm25RankingService;
 
     @Autowired
-    private EducationService educationService;
+    private ResumeGraphLoader resumeGraphLoader;
 
     @Autowired
-    private CertificationService certificationService;
+    private ResumeSnapshotCache resumeSnapshots;
 
     @Autowired
     private UserRepository userRepository;
@@ -65,40 +71,22 @@ public class ResumeBlockService {
     private ResumeData resumeData;
 
     /**
-     * Load resume blocks from database for a specific user
+     * Resume blocks for a specific user, served from the user's snapshot and loaded from the
+     * database when it was invalidated. The returned lists are shared and must not be modified.
      */
     public ResumeData loadResumeBlocks(String username) {
+        return resumeSnapshots.get(username, () -> readResumeBlocks(username));
+    }
+
+    /**
+     * Load resume blocks from database for a specific user. ResumeGraphLoader initializes every
+     * collection, so conversion needs no open transaction.
+     */
+    private ResumeData readResumeBlocks(String username) {
         try {
-           
-            // Load experiences from database with bullets and technologies eagerly loaded, sorted by date
-            List<Experience> experiences = experienceService.getAllExperiencesByDateWithDetails(username);
-            List<ResumeBlock> experienceBlocks = convertExperiencesToResumeBlocks(experiences);
-
-            // Load projects from database
-            List<Project> projects = projectService.getAllProjects(username);
-            List<ResumeBlock> projectBlocks = convertProjectsToResumeBlocks(projects);
-
-            // Load skills from database
-            List<Skill> skills = skillService.getAllSkills(username);
-            List<SkillsBlock> skillsBlocks = convertSkillsToSkillsBlocks(skills);
-
-            // Load education from database
-            List<Education> education = educationService.getAllEducation(username);
-            List<EducationBlock> educationBlocks = convertEducationToEducationBlocks(education);
-
-            // Load certifications from database
-            List<Certification> certifications = certificationService.getAllCertifications(username);
-            List<CertificationBlock> certificationBlocks = convertCertificationsToCertificationBlocks(certifications);
-
-            // Create ResumeData object
-            ResumeData data = new ResumeData();
-            data.setExperiences(experienceBlocks);
-            data.setProjects(projectBlocks);
-            data.setSkills(skillsBlocks);
-            data.setEducation(educationBlocks);
-            data.setCertifications(certificationBlocks);
-
-            return data;
+            User user = userRepository.findByUsername(username)
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
+            return toResumeData(resumeGraphLoader.load(user));
         } catch (Exception e) {
             throw new RuntimeException("Failed to load resume blocks from database", e);
         }
@@ -107,45 +95,30 @@ public class ResumeBlockService {
     /**
      * Load resume blocks from database for a specific user ID
      */
+    @Transactional(readOnly = true)
     public ResumeData loadResumeBlocksByUserId(Long userId) {
         try {
             User user = userRepository.findById(userId)
                     .orElseThrow(() -> new UsernameNotFoundException("User not found with ID: " + userId));
-
-            // Load experiences from database with bullets and technologies eagerly loaded, sorted by date
-            List<Experience> experiences = experienceService.getAllExperiencesByDateWithDetails(user.getUsername());
-            List<ResumeBlock> experienceBlocks = convertExperiencesToResumeBlocks(experiences);
-
-            // Load projects from database
-            List<Project> projects = projectService.getAllProjects(user.getUsername());
-            List<ResumeBlock> projectBlocks = convertProjectsToResumeBlocks(projects);
-
-            // Load skills from database
-            List<Skill> skills = skillService.getAllSkills(user.getUsername());
-            List<SkillsBlock> skillsBlocks = convertSkillsToSkillsBlocks(skills);
-
-            // Load education from database
-            List<Education> education = educationService.getAllEducation(user.getUsername());
-            List<EducationBlock> educationBlocks = convertEducationToEducationBlocks(education);
-
-            // Load certifications from database
-            List<Certification> certifications = certificationService.getAllCertifications(user.getUsername());
-            List<CertificationBlock> certificationBlocks = convertCertificationsToCertificationBlocks(certifications);
-
-            // Create ResumeData object
-            ResumeData data = new ResumeData();
-            data.setExperiences(experienceBlocks);
-            data.setProjects(projectBlocks);
-            data.setSkills(skillsBlocks);
-            data.setEducation(educationBlocks);
-            data.setCertifications(certificationBlocks);
-
-            return data;
+            return toResumeData(resumeGraphLoader.load(user));
         } catch (Exception e) {
             throw new RuntimeException("Failed to load resume blocks from database", e);
         }
     }
 
+    /**
+     * Convert a loaded resume graph into blocks
+     */
+    private ResumeData toResumeData(ResumeGraph graph) {
+        ResumeData data = new ResumeData();
+        data.setExperiences(convertExperiencesToResumeBlocks(graph.experiences()));
+        data.setProjects(convertProjectsToResumeBlocks(graph.projects()));
+        data.setSkills(convertSkillsToSkillsBlocks(graph.skills()));
+        data.setEducation(convertEducationToEducationBlocks(graph.education()));
+        data.setCertifications(convertCertificationsToCertificationBlocks(graph.certifications()));
+        return data;
+    }
+
     /**
      * Convert database Experience entities to ResumeBlock objects
      */
@@ -324,9 +297,35 @@ public class ResumeBlockService {
         return resumeData;
     }
 
+    /**
+     * Embed all uncached experiences and projects in one batched call before they are ranked
+     */
+    public void preloadEmbeddings(ResumeData resumeData, String jobDescription) {
+        // BM25 modes never embed the whole resume; hybrid embeds only its shortlist when ranking
+        if (!"embedding".equalsIgnoreCase(rankingMode)) {
+            return;
+        }
+        List<ResumeBlock> blocks = new ArrayList<>();
+        if (resumeData.getExperiences() != null) {
+            blocks.addAll(resumeData.getExperiences());
+        }
+        if (resumeData.getProjects() != null) {
+            blocks.addAll(resumeData.getProjects());
+        }
+        embedder.preloadEmbeddings(blocks, jobDescription);
+    }
+
     public List<ResumeBlock> selectTopExperiences(List<ResumeBlock> experiences, String jobDescription) {
-        // Use vector embeddings to score and rank experiences, preserving all data
-        List<ScoredBlock> scoredExperiences = embedder.scoreBlocksWithEmbeddings(experiences, jobDescription, keywordService);
+        return selectTopExperiences(experiences, jobDescription, null);
+    }
+
+    /**
+     * Select top experiences, reusing the user's keyword and BM25 indexes
+     */
+    public List<ResumeBlock> selectTopExperiences(List<ResumeBlock> experiences, String jobDescription, String username) {
+        // Rank experiences with the configured mode, preserving all data
+        List<ScoredBlock> scoredExperiences = rankBlocks(experiences, jobDescription,
+                indexKey(username, "experiences"), maxExperiences);
         
         // Get top experiences up to maxExperiences, preserving original ResumeBlock data
         List<ResumeBlock> topExperiences = scoredExperiences.stream()
@@ -334,40 +333,34 @@ public class ResumeBlockService {
                 .map(ScoredBlock::getBlock)
                 .collect(Collectors.toList());
         
-        // Sort the selected experiences by date range (latest first)
+        // Sort the selected experiences by date range (latest first), keeping relevance order for ties
         System.out.println("=== selectTopExperiences - BEFORE DATE SORTING ===");
         for (ResumeBlock exp : topExperiences) {
-            System.out.println("Experience: " + exp.getTitle() + " - Date Range: " + exp.getDateRange() + " - End Year: " + extractEndYearFromDateRange(exp.getDateRange()));
+            System.out.println("Experience: " + exp.getTitle() + " - Date Range: " + exp.getDateRange() + " - Parsed: " + DateRangeParser.parse(exp.getDateRange()));
         }
         
-        topExperiences.sort((e1, e2) -> {
-            String dateRange1 = e1.getDateRange() != null ? e1.getDateRange() : "";
-            String dateRange2 = e2.getDateRange() != null ? e2.getDateRange() : "";
-            
-            // Extract the end year from date range (e.g., "2020-2023" -> 2023)
-            int year1 = extractEndYearFromDateRange(dateRange1);
-            int year2 = extractEndYearFromDateRange(dateRange2);
-            
-            // Sort by year descending (latest first)
-            if (year1 != year2) {
-                return Integer.compare(year2, year1);
-            }
-            
-            // If same year, maintain the relevance order
-            return 0;
-        });
+        topExperiences.sort(Comparator.comparing(
+                (ResumeBlock block) -> DateRangeParser.parse(block.getDateRange()), DateRangeParser.LATEST_FIRST));
         
         System.out.println("=== selectTopExperiences - AFTER DATE SORTING ===");
         for (ResumeBlock exp : topExperiences) {
-            System.out.println("Experience: " + exp.getTitle() + " - Date Range: " + exp.getDateRange() + " - End Year: " + extractEndYearFromDateRange(exp.getDateRange()));
+            System.out.println("Experience: " + exp.getTitle() + " - Date Range: " + exp.getDateRange() + " - Parsed: " + DateRangeParser.parse(exp.getDateRange()));
         }
         
         return topExperiences;
     }
 
     public List<ResumeBlock> selectTopProjects(List<ResumeBlock> projects, String jobDescription) {
-        // Use vector embeddings to score and rank projects
-        List<ScoredBlock> scoredProjects = embedder.scoreBlocksWithEmbeddings(projects, jobDescription, keywordService);
+        return selectTopProjects(projects, jobDescription, null);
+    }
+
+    /**
+     * Select top projects, reusing the user's keyword and BM25 indexes
+     */
+    public List<ResumeBlock> selectTopProjects(List<ResumeBlock> projects, String jobDescription, String username) {
+        // Rank projects with the configured mode
+        List<ScoredBlock> scoredProjects = rankBlocks(projects, jobDescription,
+                indexKey(username, "projects"), maxProjects);
         
         // Return top projects up to maxProjects
         return scoredProjects.stream()
@@ -376,6 +369,34 @@ public class ResumeBlockService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Rank blocks according to resume.ranking.mode
+     */
+    private List<ScoredBlock> rankBlocks(List<ResumeBlock> blocks, String jobDescription, String indexKey, int limit) {
+        if ("bm25".equalsIgnoreCase(rankingMode)) {
+            return bm25RankingService.rank(indexKey, blocks, jobDescription);
+        }
+
+        if ("hybrid".equalsIgnoreCase(rankingMode)) {
+            List<ScoredBlock> bm25Ranked = bm25RankingService.rank(indexKey, blocks, jobDescription);
+            List<ResumeBlock> candidates = bm25Ranked.stream()
+                    .limit(Math.max(limit, rerankCandidates))
+                    .map(ScoredBlock::getBlock)
+                    .collect(Collectors.toList());
+            List<ScoredBlock> reranked = embedder.scoreBlocksWithEmbeddings(candidates, jobDescription,
+                    keywordService, indexKey);
+            // Keep the BM25 order when no embeddings were available
+            boolean usedEmbeddings = reranked.stream().anyMatch(ScoredBlock::isUsedEmbeddings);
+            return usedEmbeddings ? reranked : bm25Ranked;
+        }
+
+        return embedder.scoreBlocksWithEmbeddings(blocks, jobDescription, keywordService, indexKey);
+    }
+
+    private String indexKey(String username, String blockType) {
+        return username != null ? username + ":" + blockType : null;
+    }
+
  
     // Legacy methods for backward compatibility
     public List<ResumeBlock> selectTopExperiences(List<ResumeBlock> experiences, Set<String> keywords) {
@@ -391,47 +412,16 @@ public class ResumeBlockService {
     }
 
     // Utility methods for monitoring
-    public int getEmbeddingCacheSize() {
+    public long getEmbeddingCacheSize() {
         return embedder.getCacheSize();
     }
 
+    public EmbeddingCacheStats getEmbeddingCacheStats() {
+        return embedder.getCacheStats();
+    }
+
     public void clearEmbeddingCache() {
         embedder.clearCache();
     }
     
-    /**
-     * Extract the end year from a date range string
-     */
-    private int extractEndYearFromDateRange(String dateRange) {
-        if (dateRange == null || dateRange.trim().isEmpty()) {
-            return 0;
-        }
-        
-        // Handle various date range formats
-        String[] patterns = {
-            "\\d{4}-\\d{4}", // 2020-2023
-            "\\d{4}", // 2023
-            "\\w+\\s+\\d{4}\\s*-\\s*\\w+\\s+\\d{4}", // Jan 2020 - Dec 2023
-            "\\w+\\s+\\d{4}\\s*-\\s*Present", // Jan 2020 - Present
-            "\\w+\\s+\\d{4}\\s*-\\s*\\w+\\s+\\d{4}" // Jan 2020 - Dec 2023
-        };
-        
-        for (String pattern : patterns) {
-            if (dateRange.matches(".*" + pattern + ".*")) {
-                // Extract the last 4-digit number (year)
-                String[] parts = dateRange.split("\\D+");
-                for (int i = parts.length - 1; i >= 0; i--) {
-                    if (parts[i].length() == 4) {
-                        try {
-                            return Integer.parseInt(parts[i]);
-                        } catch (NumberFormatException e) {
-                            continue;
-                        }
-                    }
-                }
-            }
-        }
-        
-        return 0;
-    }
 } 
\ No newline at end of file
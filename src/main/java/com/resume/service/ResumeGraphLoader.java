@@ -0,0 +1,78 @@
+package com.resume.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.resume.model.Certification;
+import com.resume.model.Education;
+import com.resume.model.Experience;
+import com.resume.model.Project;
+import com.resume.model.Skill;
+import com.resume.model.User;
+import com.resume.repository.CertificationRepository;
+import com.resume.repository.EducationRepository;
+import com.resume.repository.ExperienceRepository;
+import com.resume.repository.ProjectRepository;
+import com.resume.repository.SkillRepository;
+
+/**
+ * Read-side loader for a user's whole resume. Every list and child collection is fetched in at
+ * most seven queries, however many experiences or projects the user has: experiences and
+ * projects with their bullets, then their technologies in a second fetch join against the same
+ * persistence context (Hibernate cannot fetch two bags in one query), then skills, education
+ * and certifications. Nothing is left for lazy loading during conversion.
+ */
+@Service
+public class ResumeGraphLoader {
+
+    @Autowired
+    private ExperienceRepository experienceRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private EducationRepository educationRepository;
+
+    @Autowired
+    private CertificationRepository certificationRepository;
+
+    /**
+     * Load all resume entities of an already resolved user, experiences ordered by date
+     */
+    @Transactional(readOnly = true)
+    public ResumeGraph load(User user) {
+        List<Experience> experiences = experienceRepository.findByUserWithBulletsOrderByDateDesc(user);
+        if (!experiences.isEmpty()) {
+            experienceRepository.fetchTechnologiesByUser(user);
+        }
+
+        List<Project> projects = projectRepository.findByUserWithBullets(user);
+        if (!projects.isEmpty()) {
+            projectRepository.fetchTechnologiesByUser(user);
+        }
+
+        return new ResumeGraph(
+                experiences,
+                projects,
+                skillRepository.findByUserOrderByCategoryAscOrderIndexAsc(user),
+                educationRepository.findByUserOrderByCreatedAtDesc(user),
+                certificationRepository.findByUserOrderByDateObtainedDesc(user));
+    }
+
+    /**
+     * A user's resume entities with their child collections initialized
+     */
+    public record ResumeGraph(
+            List<Experience> experiences,
+            List<Project> projects,
+            List<Skill> skills,
+            List<Education> education,
+            List<Certification> certifications) {}
+}
@@ -0,0 +1,114 @@
+package com.resume.service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.resume.model.ResumeData;
+
+/**
+ * Per-user snapshots of converted ResumeData, so read paths cost a map lookup instead of a
+ * database round trip and entity conversion. The CRUD services invalidate a user's snapshot on
+ * every write; the TTL only bounds staleness from writes made by other instances or directly in
+ * the database.
+ *
+ * Each user has a version that every invalidation bumps. A load that overlapped an invalidation
+ * is returned to its caller but not stored, so a snapshot read before a write commits can never
+ * replace the newer data. Snapshots are shared between requests and their lists are read-only.
+ */
+@Service
+public class ResumeSnapshotCache {
+
+    private final boolean enabled;
+    private final Cache<String, Snapshot> snapshots;
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public ResumeSnapshotCache(@Value("${resume.snapshot.enabled:true}") boolean enabled,
+                               @Value("${resume.snapshot.max-users:10000}") long maxUsers,
+                               @Value("${resume.snapshot.ttl:PT10M}") Duration ttl) {
+        this.enabled = enabled;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * The user's current snapshot, loading and storing one on a miss
+     */
+    public ResumeData get(String username, Supplier<ResumeData> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        AtomicLong version = versions.computeIfAbsent(username, key -> new AtomicLong());
+        long expected = version.get();
+        Snapshot snapshot = snapshots.getIfPresent(username);
+        if (snapshot != null && snapshot.version() == expected) {
+            return snapshot.data();
+        }
+
+        ResumeData data = readOnly(loader.get());
+        if (version.get() == expected) {
+            snapshots.asMap().merge(username, new Snapshot(expected, data),
+                    (current, loaded) -> current.version() >= loaded.version() ? current : loaded);
+        }
+        return data;
+    }
+
+    /**
+     * Drop the user's snapshot now and again once the surrounding transaction commits, so a
+     * load that reads the pre-commit rows is not kept
+     */
+    public void invalidate(String username) {
+        evict(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(username);
+                }
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        versions.values().forEach(AtomicLong::incrementAndGet);
+        snapshots.invalidateAll();
+    }
+
+    public long size() {
+        return snapshots.estimatedSize();
+    }
+
+    private void evict(String username) {
+        versions.computeIfAbsent(username, key -> new AtomicLong()).incrementAndGet();
+        snapshots.invalidate(username);
+    }
+
+    private static ResumeData readOnly(ResumeData data) {
+        ResumeData copy = new ResumeData();
+        copy.setExperiences(readOnly(data.getExperiences()));
+        copy.setProjects(readOnly(data.getProjects()));
+        copy.setSkills(readOnly(data.getSkills()));
+        copy.setEducation(readOnly(data.getEducation()));
+        copy.setCertifications(readOnly(data.getCertifications()));
+        return copy;
+    }
+
+    private static <T> List<T> readOnly(List<T> list) {
+        return list != null ? Collections.unmodifiableList(list) : null;
+    }
+
+    private record Snapshot(long version, ResumeData data) {}
+}
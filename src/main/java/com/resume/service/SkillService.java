@@ -21,10 +21,14 @@ public class SkillService {
     @Autowired
     private UserRepository userRepository;
     
+    @Autowired
+    private ResumeSnapshotCache resumeSnapshots;
+    
     /**
      * Save a skill
      */
     public Skill saveSkill(String username, Skill skill) {
+        resumeSnapshots.invalidate(username);
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
         
@@ -91,6 +95,7 @@ public class SkillService {
      * Delete a skill
      */
     public void deleteSkill(String username, Long skillId) {
+        resumeSnapshots.invalidate(username);
         Skill skill = getSkillByIdForUser(username, skillId);
         skillRepository.delete(skill);
     }
@@ -99,6 +104,7 @@ public class SkillService {
      * Delete all skills for a user
      */
     public void deleteAllSkills(String username) {
+        resumeSnapshots.invalidate(username);
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
         
@@ -109,6 +115,7 @@ public class SkillService {
      * Delete all skills for a user by category
      */
     public void deleteSkillsByCategory(String username, String category) {
+        resumeSnapshots.invalidate(username);
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
         
@@ -119,6 +126,7 @@ public class SkillService {
      * Update skill order index
      */
     public Skill updateSkillOrder(String username, Long skillId, Integer orderIndex) {
+        resumeSnapshots.invalidate(username);
         Skill skill = getSkillByIdForUser(username, skillId);
         skill.setOrderIndex(orderIndex);
         return skillRepository.save(skill);
@@ -128,6 +136,7 @@ public class SkillService {
      * Update skill category
      */
     public Skill updateSkillCategory(String username, Long skillId, String category) {
+        resumeSnapshots.invalidate(username);
         Skill skill = getSkillByIdForUser(username, skillId);
         skill.setCategory(category);
         return skillRepository.save(skill);
@@ -137,6 +146,7 @@ public class SkillService {
      * Update skill name
      */
     public Skill updateSkillName(String username, Long skillId, String skillName) {
+        resumeSnapshots.invalidate(username);
         Skill skill = getSkillByIdForUser(username, skillId);
         skill.setSkillName(skillName);
         return skillRepository.save(skill);
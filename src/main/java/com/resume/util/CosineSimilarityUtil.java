@@ -2,6 +2,8 @@ package com.resume.util;
 
 import java.util.List;
 
+import com.resume.model.EmbeddingVector;
+
 public class CosineSimilarityUtil {
 
     /**
@@ -48,4 +50,28 @@ public class CosineSimilarityUtil {
             return 0.0;
         }
     }
+
+    /**
+     * Calculate cosine similarity between two embedding vectors
+     * @param vector1 First vector
+     * @param vector2 Second vector
+     * @return Cosine similarity score between 0 and 1
+     */
+    public static double cosineSimilarity(EmbeddingVector vector1, EmbeddingVector vector2) {
+        return SimilarityKernel.cosine(vector1, vector2);
+    }
+
+    /**
+     * Calculate cosine similarity with bounds checking
+     * @param vector1 First vector
+     * @param vector2 Second vector
+     * @return Cosine similarity score between 0 and 1
+     */
+    public static double safeCosineSimilarity(EmbeddingVector vector1, EmbeddingVector vector2) {
+        try {
+            return cosineSimilarity(vector1, vector2);
+        } catch (Exception e) {
+            return 0.0;
+        }
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,96 @@
+package com.resume.util;
+
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Parses free-text date ranges such as "Jan 2020 - Dec 2023", "2019-2021", "Aug. 2021--Present"
+ * or "05/2019 to 11/2021" into a start and end month. Follows the same rules as the
+ * date_range_* functions of the V7 migration, so ranges order the same in Java and in SQL.
+ *
+ * Patterns are compiled once and results are memoized by the raw string, so sort comparators
+ * can call parse on every comparison.
+ */
+public final class DateRangeParser {
+
+    private static final Pattern SEPARATOR = Pattern.compile("\\s*(?:-+|\u2013|\u2014|\\bto\\b)\\s*");
+    private static final Pattern YEAR = Pattern.compile("(?<!\\d)(\\d{4})(?!\\d)");
+    private static final Pattern MONTH_NAME = Pattern.compile(
+            "\\b(jan|feb|mar|apr|may|jun|jul|aug|sep|oct|nov|dec)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern NUMERIC_MONTH = Pattern.compile("(?<!\\d)(\\d{1,2})\\s*/\\s*\\d{4}");
+    private static final Pattern CURRENT = Pattern.compile("\\b(present|current|now)\\b", Pattern.CASE_INSENSITIVE);
+    private static final String MONTHS = "janfebmaraprmayjunjulaugsepoctnovdec";
+
+    private static final DateRange EMPTY = new DateRange(null, null, false);
+
+    private static final Cache<String, DateRange> CACHE = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .build();
+
+    /**
+     * Current roles first, then latest end month; ranges without a year sort last
+     */
+    public static final Comparator<DateRange> LATEST_FIRST = Comparator
+            .comparing(DateRange::current).reversed()
+            .thenComparing(DateRange::end, Comparator.nullsLast(Comparator.<YearMonth>reverseOrder()));
+
+    private DateRangeParser() {}
+
+    /**
+     * Parse a date range; null or unparseable text gives a range with no start or end
+     */
+    public static DateRange parse(String dateRange) {
+        if (dateRange == null || dateRange.isBlank()) {
+            return EMPTY;
+        }
+        return CACHE.get(dateRange, DateRangeParser::parseUncached);
+    }
+
+    static DateRange parseUncached(String dateRange) {
+        String[] parts = SEPARATOR.split(dateRange.trim(), -1);
+        String startPart = parts[0];
+        String endPart = parts[parts.length - 1];
+
+        boolean current = CURRENT.matcher(endPart).find();
+        YearMonth start = parsePart(startPart, false);
+        YearMonth end = current ? null : parsePart(endPart, true);
+        return new DateRange(start, end, current);
+    }
+
+    private static YearMonth parsePart(String part, boolean isEnd) {
+        Matcher year = YEAR.matcher(part);
+        String lastYear = null;
+        while (year.find()) {
+            lastYear = year.group(1);
+        }
+        if (lastYear == null) {
+            return null;
+        }
+
+        int month = isEnd ? 12 : 1;
+        Matcher monthName = MONTH_NAME.matcher(part);
+        if (monthName.find()) {
+            month = MONTHS.indexOf(monthName.group(1).toLowerCase()) / 3 + 1;
+        } else {
+            Matcher numericMonth = NUMERIC_MONTH.matcher(part);
+            if (numericMonth.find()) {
+                int number = Integer.parseInt(numericMonth.group(1));
+                if (number >= 1 && number <= 12) {
+                    month = number;
+                }
+            }
+        }
+        return YearMonth.of(Integer.parseInt(lastYear), month);
+    }
+
+    /**
+     * Start and end month of a range. The end is null for current roles, and either side is null
+     * when it has no four-digit year.
+     */
+    public record DateRange(YearMonth start, YearMonth end, boolean current) {}
+}
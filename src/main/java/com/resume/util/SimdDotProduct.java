@@ -0,0 +1,40 @@
+package com.resume.util;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API dot product. Only loaded by SimilarityKernel after it has checked that the
+ * jdk.incubator.vector module is present, so the JVM never links it without the module.
+ */
+final class SimdDotProduct {
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    private SimdDotProduct() {}
+
+    static float dot(float[] vector1, float[] vector2) {
+        int i = 0;
+        int upperBound = SPECIES.loopBound(vector1.length);
+        FloatVector sum = FloatVector.zero(SPECIES);
+
+        for (; i < upperBound; i += SPECIES.length()) {
+            FloatVector v1 = FloatVector.fromArray(SPECIES, vector1, i);
+            FloatVector v2 = FloatVector.fromArray(SPECIES, vector2, i);
+            sum = v1.fma(v2, sum);
+        }
+
+        float result = sum.reduceLanes(VectorOperators.ADD);
+
+        // Scalar tail for dimensions that don't fill a whole vector
+        for (; i < vector1.length; i++) {
+            result += vector1[i] * vector2[i];
+        }
+        return result;
+    }
+
+    static int laneCount() {
+        return SPECIES.length();
+    }
+}
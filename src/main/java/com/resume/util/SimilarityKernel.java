@@ -0,0 +1,74 @@
+package com.resume.util;
+
+import com.resume.model.EmbeddingVector;
+
+/**
+ * Dot-product and cosine kernels for EmbeddingVector. Uses jdk.incubator.vector SIMD lanes
+ * when the JVM was started with --add-modules jdk.incubator.vector, and a scalar loop otherwise.
+ * Set -Dresume.similarity.simd=false to force the scalar path.
+ */
+public final class SimilarityKernel {
+
+    private static final boolean SIMD_ENABLED = detectSimd();
+
+    private SimilarityKernel() {}
+
+    /**
+     * Cosine similarity. For unit-length vectors (how embeddings are cached) this is a single dot product.
+     */
+    public static double cosine(EmbeddingVector vector1, EmbeddingVector vector2) {
+        if (vector1 == null || vector2 == null || vector1.dimensions() != vector2.dimensions()) {
+            return 0.0;
+        }
+
+        double dot = dot(vector1.values(), vector2.values());
+        if (vector1.isNormalized() && vector2.isNormalized()) {
+            return dot;
+        }
+
+        if (vector1.norm() == 0.0f || vector2.norm() == 0.0f) {
+            return 0.0;
+        }
+        return dot / ((double) vector1.norm() * vector2.norm());
+    }
+
+    /**
+     * Dot product of two equal-length arrays
+     */
+    public static double dot(float[] vector1, float[] vector2) {
+        if (vector1.length != vector2.length) {
+            throw new IllegalArgumentException("Vector dimensions differ: " + vector1.length + " vs " + vector2.length);
+        }
+        return SIMD_ENABLED ? SimdDotProduct.dot(vector1, vector2) : scalarDot(vector1, vector2);
+    }
+
+    /**
+     * Scalar dot product, also used as the fallback when the Vector API is unavailable
+     */
+    public static double scalarDot(float[] vector1, float[] vector2) {
+        float sum = 0.0f;
+        for (int i = 0; i < vector1.length; i++) {
+            sum += vector1[i] * vector2[i];
+        }
+        return sum;
+    }
+
+    public static boolean isSimdEnabled() {
+        return SIMD_ENABLED;
+    }
+
+    private static boolean detectSimd() {
+        if (!Boolean.parseBoolean(System.getProperty("resume.similarity.simd", "true"))) {
+            return false;
+        }
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+        try {
+            // Link the SIMD class now so a broken module setup falls back instead of failing later
+            return SimdDotProduct.laneCount() > 1;
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+}
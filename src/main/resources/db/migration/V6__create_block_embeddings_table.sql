@@ -0,0 +1,16 @@
+-- Migration script to persist resume block embeddings across restarts
+-- Vectors are stored as packed little-endian float32 values (4 bytes per dimension)
+
+CREATE TABLE IF NOT EXISTS block_embeddings (
+    id BIGSERIAL PRIMARY KEY,
+    block_id VARCHAR(100) NOT NULL,
+    model VARCHAR(100) NOT NULL,
+    content_hash CHAR(64) NOT NULL,
+    dimensions INTEGER NOT NULL,
+    embedding BYTEA NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_block_embeddings_block_model_hash UNIQUE (block_id, model, content_hash)
+);
+
+-- Lookups during analyze are by model and content hash
+CREATE INDEX IF NOT EXISTS idx_block_embeddings_model_hash ON block_embeddings(model, content_hash);
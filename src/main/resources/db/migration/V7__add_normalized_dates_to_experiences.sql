@@ -0,0 +1,90 @@
+-- Migration script to add normalized dates parsed from the free-text date_range of experiences
+-- Lets experiences be ordered by date in SQL instead of re-parsing date_range in Java
+
+ALTER TABLE experiences
+ADD COLUMN IF NOT EXISTS start_date DATE,
+ADD COLUMN IF NOT EXISTS end_date DATE,
+ADD COLUMN IF NOT EXISTS is_current BOOLEAN NOT NULL DEFAULT false;
+
+-- Parse one side of a date range such as "Jan 2020", "01/2020" or "2020" to the first day of
+-- its month, using January for a start and December for an end when only a year is given.
+-- NULL when there is no four-digit year.
+CREATE OR REPLACE FUNCTION parse_date_range_part(part TEXT, is_end BOOLEAN)
+RETURNS DATE AS $$
+DECLARE
+    year_text TEXT;
+    month_text TEXT;
+    month_number INTEGER;
+BEGIN
+    year_text := substring(part from '.*(?:^|\D)(\d{4})(?:\D|$)');
+    IF year_text IS NULL THEN
+        RETURN NULL;
+    END IF;
+
+    month_text := substring(lower(part) from '\m(jan|feb|mar|apr|may|jun|jul|aug|sep|oct|nov|dec)');
+    IF month_text IS NOT NULL THEN
+        month_number := array_position(
+            ARRAY['jan', 'feb', 'mar', 'apr', 'may', 'jun', 'jul', 'aug', 'sep', 'oct', 'nov', 'dec'],
+            month_text);
+    ELSE
+        month_number := substring(part from '(?:^|\D)(\d{1,2})\s*/\s*\d{4}')::INTEGER;
+        IF month_number IS NULL OR month_number NOT BETWEEN 1 AND 12 THEN
+            month_number := CASE WHEN is_end THEN 12 ELSE 1 END;
+        END IF;
+    END IF;
+
+    RETURN make_date(year_text::INTEGER, month_number, 1);
+END;
+$$ language 'plpgsql' IMMUTABLE;
+
+-- Split "Jan 2020 - Dec 2023", "2020-2023", "Aug 2021--Present" or "2019 to 2021" into its
+-- sides; a single date is both the start and the end
+CREATE OR REPLACE FUNCTION split_date_range(date_range TEXT)
+RETURNS TEXT[] AS $$
+    SELECT regexp_split_to_array(trim(date_range), '\s*(?:-+|–|—|\mto\M)\s*');
+$$ language 'sql' IMMUTABLE;
+
+CREATE OR REPLACE FUNCTION date_range_is_current(date_range TEXT)
+RETURNS BOOLEAN AS $$
+    SELECT COALESCE((split_date_range(date_range))[cardinality(split_date_range(date_range))]
+                    ~* '\m(present|current|now)\M', false);
+$$ language 'sql' IMMUTABLE;
+
+CREATE OR REPLACE FUNCTION date_range_start(date_range TEXT)
+RETURNS DATE AS $$
+    SELECT parse_date_range_part((split_date_range(date_range))[1], false);
+$$ language 'sql' IMMUTABLE;
+
+-- NULL for current roles
+CREATE OR REPLACE FUNCTION date_range_end(date_range TEXT)
+RETURNS DATE AS $$
+    SELECT CASE WHEN date_range_is_current(date_range) THEN NULL
+                ELSE parse_date_range_part((split_date_range(date_range))[cardinality(split_date_range(date_range))], true)
+           END;
+$$ language 'sql' IMMUTABLE;
+
+-- Keep the normalized dates in step with date_range on every insert and date_range change
+CREATE OR REPLACE FUNCTION set_experience_dates()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.start_date = date_range_start(NEW.date_range);
+    NEW.end_date = date_range_end(NEW.date_range);
+    NEW.is_current = date_range_is_current(NEW.date_range);
+    RETURN NEW;
+END;
+$$ language 'plpgsql';
+
+CREATE TRIGGER set_experiences_dates BEFORE INSERT OR UPDATE OF date_range ON experiences FOR EACH ROW EXECUTE FUNCTION set_experience_dates();
+
+-- Backfill existing rows; updated_at is left alone since the content did not change
+ALTER TABLE experiences DISABLE TRIGGER update_experiences_updated_at;
+
+UPDATE experiences SET
+    start_date = date_range_start(date_range),
+    end_date = date_range_end(date_range),
+    is_current = date_range_is_current(date_range);
+
+ALTER TABLE experiences ENABLE TRIGGER update_experiences_updated_at;
+
+-- Matches the date ordering used by ExperienceRepository: current roles first, then latest end date
+CREATE INDEX IF NOT EXISTS idx_experiences_user_end_date ON experiences(user_id, is_current DESC, end_date DESC NULLS LAST);
@@ -0,0 +1,121 @@
+package com.resume.controller;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.resume.service.PDFService;
+import com.resume.service.PdfCompileRejectedException;
+
+/**
+ * PDF endpoints, mostly against a real PDFService reading a temp output directory
+ */
+class ResumeControllerTest {
+
+    private static final String PDF = "%PDF-1.4 generated resume body";
+
+    @TempDir
+    Path tempDir;
+
+    private Path outputDir;
+    private PDFService pdfService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        outputDir = Files.createDirectory(tempDir.resolve("pdfs"));
+        Files.writeString(outputDir.resolve("resume.pdf"), PDF);
+        pdfService = new PDFService();
+        ReflectionTestUtils.setField(pdfService, "outputDir", outputDir.toString());
+
+        ResumeController controller = new ResumeController();
+        ReflectionTestUtils.setField(controller, "pdfService", pdfService);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void testServesPdfWithETag() throws Exception {
+        String etag = pdfService.getPdfFile("resume.pdf").etag();
+
+        mockMvc.perform(get("/resume/pdf/preview/resume.pdf"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + etag + "\""))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"resume.pdf\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andExpect(content().contentType("application/pdf"))
+                .andExpect(content().string(PDF));
+    }
+
+    @Test
+    void testMatchingIfNoneMatchIsNotModified() throws Exception {
+        String etag = "\"" + pdfService.getPdfFile("resume.pdf").etag() + "\"";
+
+        mockMvc.perform(get("/resume/pdf/resume.pdf").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void testRangeIsPartialContent() throws Exception {
+        mockMvc.perform(get("/resume/pdf/public/resume.pdf").header(HttpHeaders.RANGE, "bytes=0-7"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-7/" + PDF.length()))
+                .andExpect(content().string(PDF.substring(0, 8)));
+    }
+
+    @Test
+    void testNamesOutsideOutputDirectoryAreNotFound() throws Exception {
+        Files.writeString(tempDir.resolve("outside.pdf"), PDF);
+
+        mockMvc.perform(get(URI.create("/resume/pdf/preview/..%2Foutside.pdf")))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/resume/pdf/preview/missing.pdf"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testAccelRedirectLeavesBodyToNginx() throws Exception {
+        ReflectionTestUtils.setField(pdfService, "accelRedirectPrefix", "/internal/resume-pdfs/");
+
+        mockMvc.perform(get("/resume/pdf/embed/resume.pdf"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Accel-Redirect", "/internal/resume-pdfs/resume.pdf"))
+                .andExpect(header().string("X-Frame-Options", "SAMEORIGIN"))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void testFullCompileQueueIsTooManyRequests() throws Exception {
+        PDFService rejecting = mock(PDFService.class);
+        when(rejecting.generatePDFFromLatex(anyString(), anyString()))
+                .thenThrow(new PdfCompileRejectedException(16, 7));
+        ResumeController controller = new ResumeController();
+        ReflectionTestUtils.setField(controller, "pdfService", rejecting);
+
+        MockMvcBuilders.standaloneSetup(controller).build()
+                .perform(post("/resume/pdf/test"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "7"))
+                .andExpect(content().string("PDF compilation queue is full (16 waiting), retry in 7s"));
+    }
+}
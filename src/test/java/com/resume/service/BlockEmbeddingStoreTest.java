@@ -0,0 +1,131 @@
+package com.resume.service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.resume.model.BlockEmbedding;
+import com.resume.model.EmbeddingCacheStats;
+import com.resume.model.EmbeddingVector;
+import com.resume.model.ResumeBlock;
+import com.resume.repository.BlockEmbeddingRepository;
+
+class BlockEmbeddingStoreTest {
+
+    private static final String MODEL = "text-embedding-3-small";
+
+    private final BlockEmbeddingRepository repository = mock(BlockEmbeddingRepository.class);
+    private final EmbeddingService embeddingService = mock(EmbeddingService.class);
+    private BlockEmbeddingStore store;
+
+    @BeforeEach
+    void setUp() {
+        when(embeddingService.getModel()).thenReturn(MODEL);
+        store = new BlockEmbeddingStore();
+        ReflectionTestUtils.setField(store, "blockEmbeddingRepository", repository);
+        ReflectionTestUtils.setField(store, "embeddingService", embeddingService);
+        ReflectionTestUtils.setField(store, "enabled", true);
+        store.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.shutdown();
+    }
+
+    @Test
+    void testEncodeDecodeRoundTrip() {
+        float[] values = {0.25f, -1.5f, 0f, -0f, Float.MIN_VALUE, Float.MAX_VALUE, 1e-7f};
+        byte[] bytes = BlockEmbeddingStore.encode(EmbeddingVector.of(values));
+
+        assertEquals(values.length * Float.BYTES, bytes.length);
+        // Little-endian float32: 0.25f is 0x3E800000
+        assertArrayEquals(new byte[] {0, 0, (byte) 0x80, 0x3E}, Arrays.copyOf(bytes, 4));
+        assertArrayEquals(values, BlockEmbeddingStore.decode(bytes).values());
+        assertEquals(0, BlockEmbeddingStore.decode(new byte[0]).dimensions());
+    }
+
+    @Test
+    void testStaleContentHashIsNotServed() {
+        ResumeBlock block = new ResumeBlock();
+        block.setId("exp_1");
+        block.setTitle("Engineer");
+        block.setLines(List.of("Built the billing service"));
+
+        ResumeBlockEmbedder embedder = new ResumeBlockEmbedder();
+        ReflectionTestUtils.setField(embedder, "embeddingService", embeddingService);
+        ReflectionTestUtils.setField(embedder, "embeddingStore", store);
+        ReflectionTestUtils.setField(embedder, "embeddingCache", new CaffeineEmbeddingCache(1 << 20, Duration.ofHours(1)));
+
+        // The stored row was embedded from the block's previous text
+        String staleHash = BlockEmbeddingStore.contentHash(embedder.generateBlockText(block));
+        EmbeddingVector staleVector = EmbeddingVector.of(new float[] {1f, 0f});
+        when(repository.findByModelAndContentHashIn(eq(MODEL), anyCollection()))
+                .thenAnswer(invocation -> {
+                    List<String> hashes = List.copyOf(invocation.getArgument(1));
+                    return hashes.contains(staleHash) ? List.of(stored(staleHash, staleVector)) : List.of();
+                });
+        assertArrayEquals(staleVector.values(), store.findEmbeddings(List.of(staleHash)).get(staleHash).values());
+
+        block.setLines(List.of("Rebuilt the billing service in Go"));
+        String currentHash = BlockEmbeddingStore.contentHash(embedder.generateBlockText(block));
+        assertNotEquals(staleHash, currentHash);
+
+        EmbeddingVector currentVector = EmbeddingVector.of(new float[] {0f, 1f});
+        when(embeddingService.getEmbeddings(any())).thenAnswer(invocation ->
+                ((List<?>) invocation.getArgument(0)).stream().map(text -> currentVector).toList());
+
+        embedder.preloadEmbeddings(List.of(block), null);
+
+        assertArrayEquals(currentVector.values(), embedder.getBlockEmbedding(block).values());
+        verify(repository, timeout(5000)).insertIfAbsent(
+                eq("exp_1"), eq(MODEL), eq(currentHash), eq(2), eq(BlockEmbeddingStore.encode(currentVector)));
+        verify(repository, never()).insertIfAbsent(anyString(), anyString(), eq(staleHash), anyInt(), any());
+
+        EmbeddingCacheStats.TierStats stats = store.stats();
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+    }
+
+    @Test
+    void testDisabledStoreNeitherReadsNorWrites() {
+        ReflectionTestUtils.setField(store, "enabled", false);
+
+        Map<String, EmbeddingVector> found = store.findEmbeddings(List.of("hash"));
+        store.saveAsync("exp_1", "hash", EmbeddingVector.of(new float[] {1f}));
+
+        assertTrue(found.isEmpty());
+        verify(repository, never()).findByModelAndContentHashIn(anyString(), anyCollection());
+        verify(repository, never()).insertIfAbsent(anyString(), anyString(), anyString(), anyInt(), any());
+    }
+
+    private static BlockEmbedding stored(String contentHash, EmbeddingVector vector) {
+        BlockEmbedding embedding = new BlockEmbedding();
+        embedding.setBlockId("exp_1");
+        embedding.setModel(MODEL);
+        embedding.setContentHash(contentHash);
+        embedding.setDimensions(vector.dimensions());
+        embedding.setEmbedding(BlockEmbeddingStore.encode(vector));
+        return embedding;
+    }
+}
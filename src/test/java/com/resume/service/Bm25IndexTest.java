@@ -0,0 +1,62 @@
+package com.resume.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class Bm25IndexTest {
+
+    @Test
+    void testRanksMatchingDocumentsHigher() {
+        Bm25Index index = new Bm25Index(1.2, 0.75);
+        Map<String, String> texts = new LinkedHashMap<>();
+        texts.put("java", "Built Java Spring Boot services on Kubernetes");
+        texts.put("react", "Built a React dashboard in TypeScript");
+        texts.put("data", "Data pipelines with Kafka and Spark");
+        index.sync(texts);
+
+        Map<String, Double> scores = index.score(Set.of("java", "spring", "kubernetes"));
+
+        assertTrue(scores.get("java") > 0.0);
+        assertEquals(1, scores.size());
+    }
+
+    @Test
+    void testIncrementalSyncMatchesFreshIndex() {
+        Bm25Index incremental = new Bm25Index(1.2, 0.75);
+        Map<String, String> texts = new LinkedHashMap<>();
+        texts.put("a", "Java microservices with Spring Boot");
+        texts.put("b", "React frontend, Node.js backend");
+        texts.put("c", "Terraform AWS infrastructure");
+        incremental.sync(texts);
+
+        // Edit one block, remove one, add one
+        texts.put("a", "Java and Kotlin microservices with Spring Boot and Kafka");
+        texts.remove("b");
+        texts.put("d", "Kafka streaming on AWS with Java");
+        incremental.sync(texts);
+
+        Bm25Index fresh = new Bm25Index(1.2, 0.75);
+        fresh.sync(texts);
+
+        Set<String> query = Set.of("java", "kafka", "aws", "react");
+        Map<String, Double> expected = fresh.score(query);
+        Map<String, Double> actual = incremental.score(query);
+        assertEquals(expected.keySet(), actual.keySet());
+        for (String key : expected.keySet()) {
+            assertEquals(expected.get(key), actual.get(key), 1e-12);
+        }
+        assertEquals(fresh.vocabularySize(), incremental.vocabularySize());
+    }
+
+    @Test
+    void testTokenizeMatchesKeywordExtraction() {
+        assertEquals(List.of("node", "js", "c", "ci", "cd"), Bm25Index.tokenize("Node.js, C++ CI/CD"));
+        assertTrue(Bm25Index.tokenize(null).isEmpty());
+    }
+}
@@ -0,0 +1,78 @@
+package com.resume.service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.resume.model.EmbeddingCacheStats;
+import com.resume.model.EmbeddingVector;
+
+class CaffeineEmbeddingCacheTest {
+
+    private static final int DIMENSIONS = 64;
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Test
+    void testEvictsByWeightAndCountsEvictions() {
+        EmbeddingVector vector = EmbeddingVector.of(new float[DIMENSIONS]);
+        int entryBytes = CaffeineEmbeddingCache.estimateBytes("block_00", vector);
+        assertEquals(40 + 2 * 8 + 40 + 4 * DIMENSIONS, entryBytes);
+
+        long maxBytes = 10L * entryBytes;
+        CaffeineEmbeddingCache cache = newCache(maxBytes, Duration.ofHours(1));
+        for (int i = 0; i < 30; i++) {
+            cache.put(String.format("block_%02d", i), vector);
+        }
+
+        EmbeddingCacheStats.TierStats stats = cache.stats();
+        assertTrue(stats.getEntries() <= 10, "entries: " + stats.getEntries());
+        assertTrue(stats.getWeightBytes() <= maxBytes);
+        assertEquals(stats.getEntries() * entryBytes, stats.getWeightBytes());
+        assertEquals(30 - stats.getEntries(), stats.getEvictions());
+        assertEquals(maxBytes, stats.getMaxWeightBytes());
+    }
+
+    @Test
+    void testCountsHitsAndMisses() {
+        CaffeineEmbeddingCache cache = newCache(1 << 20, Duration.ofHours(1));
+        EmbeddingVector vector = EmbeddingVector.of(new float[] {0.6f, 0.8f});
+
+        assertNull(cache.getIfPresent("job_1"));
+        assertNotNull(cache.get("job_1", key -> vector));
+        assertNotNull(cache.getIfPresent("job_1"));
+        assertNotNull(cache.get("job_1", key -> null));
+        // peek is for entries already counted by a preload
+        assertNotNull(cache.peek("job_1"));
+        assertNull(cache.peek("job_2"));
+
+        EmbeddingCacheStats.TierStats stats = cache.stats();
+        assertEquals(2, stats.getHits());
+        assertEquals(2, stats.getMisses());
+        assertEquals(0, stats.getEvictions());
+        assertEquals(0.5, stats.getHitRate());
+    }
+
+    @Test
+    void testExpiresAfterWrite() {
+        CaffeineEmbeddingCache cache = newCache(1 << 20, Duration.ofMinutes(10));
+        cache.put("job_1", EmbeddingVector.of(new float[] {1f}));
+
+        nanos.addAndGet(Duration.ofMinutes(9).toNanos());
+        assertNotNull(cache.getIfPresent("job_1"));
+
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+        assertNull(cache.getIfPresent("job_1"));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.stats().getMisses());
+    }
+
+    private CaffeineEmbeddingCache newCache(long maxBytes, Duration ttl) {
+        return new CaffeineEmbeddingCache(maxBytes, ttl, nanos::get, Runnable::run);
+    }
+}
@@ -0,0 +1,177 @@
+package com.resume.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.resume.model.ExperienceProject;
+import com.resume.model.ResumeBlock;
+
+class KeywordIndexTest {
+
+    private static final String[] WORDS = {
+        "java", "Spring", "spring-boot", "react", "TypeScript", "script", "api", "apis", "a", "",
+        "  ", "kubernetes", "k8s", "docker", "postgresql", "sql", "C++", "node.js", "go", "golang",
+        "microservices", "service", "latency", "real-time", "time", "cloud", "aws", "azure",
+        "averyveryverylongtokenthatexceedsthesubstringindexlimitjavaspringreact"
+    };
+
+    private final KeywordMatchingService keywordService = new KeywordMatchingService();
+
+    @Test
+    void testScoresMatchLinearScanForRandomBlocks() {
+        Random random = new Random(42);
+        for (int round = 0; round < 50; round++) {
+            List<ResumeBlock> blocks = new ArrayList<>();
+            for (int i = 0; i < 1 + random.nextInt(12); i++) {
+                blocks.add(randomBlock(random, "block-" + i));
+            }
+            Set<String> keywords = randomKeywords(random);
+
+            assertScoresMatch(null, blocks, keywords);
+        }
+    }
+
+    @Test
+    void testScoresMatchForJobDescription() {
+        List<ResumeBlock> blocks = List.of(
+            block("exp-1", List.of("Java", "Spring Boot"), List.of("Built Spring Boot microservices in Java", "Cut API latency by 40%")),
+            block("proj-1", List.of("React"), List.of("React dashboard for real-time analytics")));
+        String jobDescription = "Senior Java engineer with Spring Boot, React and real-time API experience";
+
+        List<Double> scores = keywordService.calculateScores("user:experiences", blocks, jobDescription);
+        for (int i = 0; i < blocks.size(); i++) {
+            assertEquals(keywordService.calculateScore(blocks.get(i), jobDescription), scores.get(i));
+        }
+    }
+
+    @Test
+    void testEdgeCases() {
+        // Empty tokens, mixed-case duplicate keywords, missing ids and repeated ids
+        ResumeBlock empty = block(null, null, null);
+        ResumeBlock blankLines = block(null, List.of(""), List.of("", "   leading space"));
+        ResumeBlock duplicateA = block("dup", List.of("java"), List.of("java spring"));
+        ResumeBlock duplicateB = block("dup", List.of("go"), List.of("golang services"));
+        List<ResumeBlock> blocks = List.of(empty, blankLines, duplicateA, duplicateB);
+
+        Set<String> keywords = new LinkedHashSet<>(Arrays.asList("Java", "java", "", "space", "go"));
+        assertScoresMatch("edge", blocks, keywords);
+        assertScoresMatch("edge", blocks, Set.of());
+    }
+
+    @Test
+    void testIncrementalUpdatesMatchLinearScan() {
+        Random random = new Random(7);
+        List<ResumeBlock> blocks = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            blocks.add(randomBlock(random, "block-" + i));
+        }
+
+        for (int round = 0; round < 30; round++) {
+            // Edit a block in place, add one and remove one, then rescore with the same index key
+            ResumeBlock edited = blocks.get(random.nextInt(blocks.size()));
+            edited.setLines(randomLines(random));
+            edited.setTags(randomWords(random, 3));
+            blocks.add(randomBlock(random, "added-" + round));
+            blocks.remove(random.nextInt(blocks.size()));
+
+            assertScoresMatch("user:projects", blocks, randomKeywords(random));
+        }
+    }
+
+    @Test
+    void testIndexGrowsLinearlyWithTokenLength() {
+        ResumeBlock shortToken = block("b", null, List.of("x".repeat(10) + "abcdefghijklmnopqrstuvwxyz".repeat(20)));
+        ResumeBlock longToken = block("b", null, List.of("x".repeat(10) + "abcdefghijklmnopqrstuvwxyz".repeat(40)));
+        KeywordIndex shortIndex = new KeywordIndex();
+        shortIndex.sync(List.of(shortToken));
+        KeywordIndex longIndex = new KeywordIndex();
+        longIndex.sync(List.of(longToken));
+
+        // Doubling a token's length must not quadruple the index, as indexing every substring did
+        assertTrue(longIndex.estimateBytes() < 2 * shortIndex.estimateBytes());
+
+        Set<String> keywords = Set.of("xxxab", "mnopq", "zab", "yz", "nothing");
+        assertEquals(keywordService.calculateScore(longToken, keywords), longIndex.score(List.of(longToken), keywords).get(0));
+    }
+
+    @Test
+    void testIndexCacheIsBoundedByWeight() {
+        long maxBytes = 64 * 1024;
+        KeywordMatchingService bounded = new KeywordMatchingService(maxBytes);
+        Random random = new Random(3);
+        for (int user = 0; user < 200; user++) {
+            List<ResumeBlock> blocks = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                blocks.add(randomBlock(random, "block-" + i));
+            }
+            bounded.calculateScores("user-" + user, blocks, Set.of("java"));
+        }
+        assertTrue(bounded.getIndexWeight() <= maxBytes, "weight " + bounded.getIndexWeight());
+
+        // An index that grows after it was cached is re-weighed
+        List<ResumeBlock> blocks = new ArrayList<>(List.of(block("a", List.of("java"), List.of("spring"))));
+        KeywordMatchingService service = new KeywordMatchingService(1 << 20);
+        service.calculateScores("grow", blocks, Set.of("java"));
+        long before = service.getIndexWeight();
+        blocks.add(block("b", List.of("kubernetes"), List.of("microservices on aws with terraform and go")));
+        service.calculateScores("grow", blocks, Set.of("java"));
+        assertTrue(service.getIndexWeight() > before);
+    }
+
+    private void assertScoresMatch(String indexKey, List<ResumeBlock> blocks, Set<String> keywords) {
+        List<Double> scores = keywordService.calculateScores(indexKey, blocks, keywords);
+        assertEquals(blocks.size(), scores.size());
+        for (int i = 0; i < blocks.size(); i++) {
+            assertEquals(keywordService.calculateScore(blocks.get(i), keywords), scores.get(i),
+                    "Score mismatch for block " + i + " with keywords " + keywords);
+        }
+    }
+
+    private ResumeBlock randomBlock(Random random, String id) {
+        ResumeBlock block = block(id, randomWords(random, 4), randomLines(random));
+        if (random.nextBoolean()) {
+            List<ExperienceProject> projects = new ArrayList<>();
+            for (int i = 0; i < 1 + random.nextInt(3); i++) {
+                projects.add(new ExperienceProject(randomLines(random), randomWords(random, 3)));
+            }
+            block.setProjects(projects);
+        }
+        return block;
+    }
+
+    private ResumeBlock block(String id, List<String> tags, List<String> lines) {
+        ResumeBlock block = new ResumeBlock();
+        block.setId(id);
+        block.setTags(tags);
+        block.setLines(lines);
+        return block;
+    }
+
+    private List<String> randomLines(Random random) {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < random.nextInt(4); i++) {
+            lines.add(String.join(" ", randomWords(random, 8)));
+        }
+        return lines;
+    }
+
+    private List<String> randomWords(Random random, int max) {
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < random.nextInt(max + 1); i++) {
+            words.add(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return words;
+    }
+
+    private Set<String> randomKeywords(Random random) {
+        return new LinkedHashSet<>(randomWords(random, 10));
+    }
+}
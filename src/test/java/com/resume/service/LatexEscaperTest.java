@@ -0,0 +1,64 @@
+package com.resume.service;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.Test;
+
+class LatexEscaperTest {
+
+    // Specials, their neighbours in ASCII, plain text and non-ASCII
+    private static final String ALPHABET = "\\{}$&#^_~%[]|@`'\"abcXYZ 019\n\té€\u2013\uD83D\uDE00";
+
+    @Test
+    void testMatchesChainedReplaceOnRandomInput() {
+        Random random = new Random(42);
+        for (int run = 0; run < 20_000; run++) {
+            String text = randomText(random, random.nextInt(40));
+
+            assertEquals(chainedReplace(text), LatexEscaper.escape(text), () -> "input: " + text);
+            assertEquals("prefix:" + chainedReplace(text),
+                    LatexEscaper.append(new StringBuilder("prefix:"), text).toString(), () -> "input: " + text);
+        }
+    }
+
+    @Test
+    void testBackslashKeepsEscapedBraces() {
+        // The chained version escapes the braces of \textbackslash{} it just inserted
+        assertEquals("a\\textbackslash\\{\\}b", LatexEscaper.escape("a\\b"));
+        assertEquals("\\^{}\\~{}", LatexEscaper.escape("^~"));
+    }
+
+    @Test
+    void testPlainTextIsReturnedUnchanged() {
+        String plain = "Built Java services, 3x faster (p99) — no specials";
+
+        assertSame(plain, LatexEscaper.escape(plain));
+        assertEquals("", LatexEscaper.escape(null));
+        assertEquals("x", LatexEscaper.append(new StringBuilder("x"), null).toString());
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return text.toString();
+    }
+
+    // The implementation LaTeXService.escapeLatex used before the single-pass escaper
+    private static String chainedReplace(String text) {
+        return text
+                .replace("\\", "\\textbackslash{}")
+                .replace("{", "\\{")
+                .replace("}", "\\}")
+                .replace("$", "\\$")
+                .replace("&", "\\&")
+                .replace("#", "\\#")
+                .replace("^", "\\^{}")
+                .replace("_", "\\_")
+                .replace("~", "\\~{}")
+                .replace("%", "\\%");
+    }
+}
@@ -0,0 +1,41 @@
+package com.resume.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+class LatexFormatCacheTest {
+
+    @Test
+    void testResumeTemplatePreambleIsStatic() throws IOException {
+        String template = new ClassPathResource("jx_template.tex").getContentAsString(StandardCharsets.UTF_8);
+
+        LatexFormatCache.Split split = new LatexFormatCache().split(template);
+
+        assertNotNull(split);
+        assertEquals(template, split.preamble() + split.body());
+        // Placeholders must all be in the body, or every user would need their own format
+        assertFalse(split.preamble().contains("{{"));
+        assertFalse(split.preamble().contains("\\begin{document}"));
+        assertTrue(split.body().startsWith(LatexFormatCache.END_OF_DUMP));
+        assertTrue(split.body().contains("\\input{glyphtounicode}"));
+    }
+
+    @Test
+    void testSplitsAtBeginDocumentWithoutMarker() {
+        String latex = "\\documentclass{article}\n\\usepackage{parskip}\n\\begin{document}\nHello\n\\end{document}\n";
+
+        LatexFormatCache.Split split = new LatexFormatCache().split(latex);
+
+        assertEquals("\\documentclass{article}\n\\usepackage{parskip}\n", split.preamble());
+        assertEquals("\\begin{document}\nHello\n\\end{document}\n", split.body());
+        assertNull(new LatexFormatCache().split("no document here"));
+    }
+}
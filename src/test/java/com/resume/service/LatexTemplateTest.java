@@ -0,0 +1,62 @@
+package com.resume.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+class LatexTemplateTest {
+
+    private static final String[] RESUME_PLACEHOLDERS = {
+        "CANDIDATE_NAME", "CANDIDATE_EMAIL", "CANDIDATE_PHONE", "CANDIDATE_LOCATION",
+        "CANDIDATE_LINKEDIN", "CANDIDATE_PORTFOLIO",
+        "EXPERIENCE_SECTION", "PROJECTS_SECTION", "SKILLS_SECTION", "EDUCATION_SECTION"
+    };
+
+    private static final String[] COVER_LETTER_PLACEHOLDERS = {
+        "CANDIDATE_NAME", "CANDIDATE_EMAIL", "CANDIDATE_PHONE", "CANDIDATE_LOCATION",
+        "CANDIDATE_LINKEDIN", "CANDIDATE_PORTFOLIO",
+        "COMPANY_NAME", "COMPANY_ADDRESS", "COMPANY_CITY_STATE_ZIP", "HIRING_MANAGER",
+        "LETTER_DATE", "OPENING_PARAGRAPH", "BODY_PARAGRAPH_1", "BODY_PARAGRAPH_2", "CLOSING_PARAGRAPH"
+    };
+
+    @Test
+    void testResumeTemplateMatchesChainedReplace() throws IOException {
+        assertMatchesChainedReplace("jx_template.tex", RESUME_PLACEHOLDERS);
+    }
+
+    @Test
+    void testCoverLetterTemplateMatchesChainedReplace() throws IOException {
+        // Includes \letterhead{{{CANDIDATE_NAME}}}, where the placeholder sits inside a third brace pair
+        assertMatchesChainedReplace("cover_letter.tex", COVER_LETTER_PLACEHOLDERS);
+    }
+
+    @Test
+    void testUnknownPlaceholdersStayLiteral() {
+        LatexTemplate template = LatexTemplate.compile("{{A}} {{B}} {{{A}}} {{A}}{{A}}", "A");
+
+        assertEquals("x {{B}} {x} xx", template.render(Map.of("A", "x")));
+        assertEquals(" {{B}} {} ", template.render(Map.of()));
+    }
+
+    private void assertMatchesChainedReplace(String resource, String[] placeholders) throws IOException {
+        String source = new ClassPathResource(resource).getContentAsString(StandardCharsets.UTF_8);
+        Map<String, String> values = new LinkedHashMap<>();
+        for (int i = 0; i < placeholders.length; i++) {
+            // Escaped-style values with braces and specials, one empty
+            values.put(placeholders[i], i == 3 ? "" : "v" + i + " \\{x\\} \\& \\% \\$ line\n");
+        }
+
+        String expected = source;
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            expected = expected.replace("{{" + entry.getKey() + "}}", entry.getValue());
+        }
+
+        assertEquals(expected, LatexTemplate.compile(source, placeholders).render(values));
+        assertEquals(expected, LatexTemplate.load(resource, placeholders).render(values));
+    }
+}
@@ -0,0 +1,121 @@
+package com.resume.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Runs the pool against a stand-in engine: a shell script that waits on stdin like a worker
+ * blocked in \read16.
+ */
+class LatexWorkerPoolTest {
+
+    @TempDir
+    Path tempDir;
+
+    private LatexWorkerPool pool;
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testPreStartingRecoversAfterFailure() throws Exception {
+        Path engine = tempDir.resolve("fake-tex");
+        // The engine does not exist yet, so the first pre-starts fail
+        pool = newPool(engine, 2);
+        waitFor(() -> Boolean.TRUE.equals(ReflectionTestUtils.getField(pool, "paused")));
+        assertEquals(0, pool.getIdleCount());
+
+        writeEngine(engine);
+        waitFor(() -> pool.getIdleCount() == 2);
+        assertEquals(0, pool.getColdStarts());
+    }
+
+    @Test
+    void testConcurrentAcquiresDoNotOverfillPool() throws Exception {
+        Path engine = tempDir.resolve("fake-tex");
+        writeEngine(engine);
+        pool = newPool(engine, 2);
+        waitFor(() -> pool.getIdleCount() == 2);
+
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+        List<Future<?>> jobs = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            jobs.add(clients.submit(() -> {
+                LatexWorkerPool.Workspace workspace = pool.acquire();
+                pool.release(workspace);
+                return null;
+            }));
+        }
+        for (Future<?> job : jobs) {
+            job.get(10, TimeUnit.SECONDS);
+        }
+        clients.shutdown();
+
+        waitFor(() -> ((Number) ReflectionTestUtils.getField(pool, "starting")).intValue() == 0);
+        assertEquals(2, pool.getIdleCount());
+        assertEquals(40, pool.getWarmStarts() + pool.getColdStarts());
+    }
+
+    @Test
+    void testAlternatingFormatsReuseWarmWorkers() throws Exception {
+        Path engine = tempDir.resolve("fake-tex");
+        writeEngine(engine);
+        pool = newPool(engine, 2);
+        waitFor(() -> pool.getIdleCount() == 2);
+
+        for (int i = 0; i < 20; i++) {
+            // Resume and cover letter templates have different preambles, hence different formats
+            String format = i % 2 == 0 ? "preamble-resume" : "preamble-cover";
+            LatexWorkerPool.Workspace workspace = pool.acquire(format);
+            pool.release(workspace);
+            waitFor(() -> pool.getIdleCount() == 2
+                    && ((Number) ReflectionTestUtils.getField(pool, "starting")).intValue() == 0);
+        }
+
+        // Only the first request for each format finds no worker of its own
+        assertEquals(2, pool.getColdStarts());
+        assertEquals(18, pool.getWarmStarts());
+    }
+
+    private LatexWorkerPool newPool(Path engine, int workers) throws IOException {
+        LatexWorkerPool latexWorkerPool = new LatexWorkerPool();
+        ReflectionTestUtils.setField(latexWorkerPool, "tempDir", tempDir.resolve("work").toString());
+        ReflectionTestUtils.setField(latexWorkerPool, "configuredSlots", 4);
+        ReflectionTestUtils.setField(latexWorkerPool, "poolSize", workers);
+        ReflectionTestUtils.setField(latexWorkerPool, "engine", engine.toString());
+        latexWorkerPool.init();
+        return latexWorkerPool;
+    }
+
+    static void writeEngine(Path engine) throws IOException {
+        Files.writeString(engine, "#!/bin/sh\nexec cat > /dev/null\n");
+        assertTrue(engine.toFile().setExecutable(true));
+    }
+
+    static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting for the pool");
+            Thread.sleep(20);
+        }
+    }
+}
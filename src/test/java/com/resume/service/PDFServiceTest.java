@@ -0,0 +1,61 @@
+package com.resume.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class PDFServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path outputDir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        outputDir = Files.createDirectory(tempDir.resolve("pdfs"));
+    }
+
+    @Test
+    void testETagFollowsFileContent() throws IOException {
+        PDFService pdfService = newPdfService();
+        Path pdf = outputDir.resolve("resume.pdf");
+        Files.writeString(pdf, "%PDF-1.4 first");
+
+        PDFService.PdfFile first = pdfService.getPdfFile("resume.pdf");
+        assertEquals(first, pdfService.getPdfFile("resume.pdf"));
+
+        Files.writeString(pdf, "%PDF-1.4 second version");
+        Files.setLastModifiedTime(pdf, FileTime.fromMillis(first.lastModified() + 1000));
+        PDFService.PdfFile second = pdfService.getPdfFile("resume.pdf");
+
+        assertNotEquals(first.etag(), second.etag());
+        assertEquals(Files.size(pdf), second.size());
+    }
+
+    @Test
+    void testRejectsNamesOutsideOutputDirectory() throws IOException {
+        PDFService pdfService = newPdfService();
+        Files.writeString(tempDir.resolve("outside.pdf"), "%PDF-1.4");
+
+        assertThrows(IOException.class, () -> pdfService.getPdfFile("../outside.pdf"));
+        assertThrows(IOException.class, () -> pdfService.getPdfFile("missing.pdf"));
+        assertNull(pdfService.getAccelRedirect(new PDFService.PdfFile("a.pdf", outputDir, 0, 0, "")));
+    }
+
+    private PDFService newPdfService() {
+        PDFService pdfService = new PDFService();
+        ReflectionTestUtils.setField(pdfService, "outputDir", outputDir.toString());
+        return pdfService;
+    }
+}
@@ -0,0 +1,140 @@
+package com.resume.service;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class PdfCacheTest {
+
+    private static final String KEY_A = "a".repeat(64);
+    private static final String KEY_B = "b".repeat(64);
+    private static final String KEY_C = "c".repeat(64);
+
+    @TempDir
+    Path outputDir;
+
+    @Test
+    void testHitMaterializesNewFileAndMissIsCounted() throws IOException {
+        PdfCache pdfCache = newPdfCache(1 << 20);
+        Path compiled = writePdf("first.pdf", 100);
+
+        assertFalse(pdfCache.copyTo(KEY_A, outputDir.resolve("unused.pdf")));
+        pdfCache.put(KEY_A, compiled);
+        assertTrue(pdfCache.copyTo(KEY_A, outputDir.resolve("second.pdf")));
+
+        assertEquals(Files.readString(compiled), Files.readString(outputDir.resolve("second.pdf")));
+        assertFalse(Files.exists(outputDir.resolve("unused.pdf")));
+        assertEquals(1, pdfCache.getHits());
+        assertEquals(1, pdfCache.getMisses());
+    }
+
+    @Test
+    void testEvictionKeepsFilesAlreadyHandedOut() throws IOException {
+        PdfCache pdfCache = newPdfCache(250);
+        Path first = writePdf("first.pdf", 100);
+        pdfCache.put(KEY_A, first);
+        assertTrue(pdfCache.copyTo(KEY_A, outputDir.resolve("first-again.pdf")));
+
+        pdfCache.put(KEY_B, writePdf("second.pdf", 100));
+        pdfCache.put(KEY_C, writePdf("third.pdf", 100));
+
+        assertTrue(pdfCache.getWeightBytes() <= 250);
+        assertEquals(2, pdfCache.size());
+        assertEquals(2, countArtifacts());
+        // User-facing files survive whatever the cache evicted
+        for (String name : new String[] {"first.pdf", "first-again.pdf", "second.pdf", "third.pdf"}) {
+            assertTrue(Files.exists(outputDir.resolve(name)), name);
+        }
+    }
+
+    @Test
+    void testRewritingAnOutputFileLeavesTheArtifactIntact() throws IOException {
+        PdfCache pdfCache = newPdfCache(1 << 20);
+        Path compiled = writePdf("first.pdf", 100);
+        String original = Files.readString(compiled);
+        pdfCache.put(KEY_A, compiled);
+        assertTrue(pdfCache.copyTo(KEY_A, outputDir.resolve("second.pdf")));
+
+        // In-place writes, as PDFBox's document.save does
+        Files.writeString(compiled, "%PDF-1.4 fallback page");
+        Files.writeString(outputDir.resolve("second.pdf"), "%PDF-1.4 fallback page");
+
+        assertEquals(original, Files.readString(outputDir.resolve(".pdf-cache").resolve(KEY_A + ".pdf")));
+        assertTrue(pdfCache.copyTo(KEY_A, outputDir.resolve("third.pdf")));
+        assertEquals(original, Files.readString(outputDir.resolve("third.pdf")));
+    }
+
+    @Test
+    void testExistingTargetKeepsTheEntry() throws IOException {
+        PdfCache pdfCache = newPdfCache(1 << 20);
+        pdfCache.put(KEY_A, writePdf("first.pdf", 100));
+        Path taken = Files.writeString(outputDir.resolve("taken.pdf"), "someone else's file");
+
+        assertThrows(FileAlreadyExistsException.class, () -> pdfCache.copyTo(KEY_A, taken));
+
+        assertEquals("someone else's file", Files.readString(taken));
+        assertEquals(1, pdfCache.size());
+        assertEquals(1, countArtifacts());
+        assertTrue(pdfCache.copyTo(KEY_A, outputDir.resolve("second.pdf")));
+    }
+
+    @Test
+    void testVanishedArtifactIsAMiss() throws IOException {
+        PdfCache pdfCache = newPdfCache(1 << 20);
+        pdfCache.put(KEY_A, writePdf("first.pdf", 100));
+        Files.delete(outputDir.resolve(".pdf-cache").resolve(KEY_A + ".pdf"));
+
+        assertFalse(pdfCache.copyTo(KEY_A, outputDir.resolve("second.pdf")));
+        assertFalse(Files.exists(outputDir.resolve("second.pdf")));
+        assertEquals(0, pdfCache.size());
+        assertEquals(1, pdfCache.getMisses());
+    }
+
+    @Test
+    void testIndexIsRebuiltAfterRestart() throws IOException {
+        PdfCache before = newPdfCache(1 << 20);
+        before.put(KEY_A, writePdf("first.pdf", 100));
+        before.put(KEY_B, writePdf("second.pdf", 100));
+        Files.writeString(outputDir.resolve(".pdf-cache").resolve(KEY_C + ".1234abcd.tmp"), "partial");
+
+        PdfCache after = newPdfCache(1 << 20);
+        assertEquals(2, after.size());
+        assertEquals(200, after.getWeightBytes());
+        assertTrue(after.copyTo(KEY_B, outputDir.resolve("third.pdf")));
+        assertEquals(2, countArtifacts());
+
+        // A smaller limit after restart trims the directory to fit
+        PdfCache smaller = newPdfCache(150);
+        assertEquals(1, smaller.size());
+        assertEquals(1, countArtifacts());
+    }
+
+    private PdfCache newPdfCache(long maxBytes) throws IOException {
+        PdfCache pdfCache = new PdfCache();
+        ReflectionTestUtils.setField(pdfCache, "outputDir", outputDir.toString());
+        ReflectionTestUtils.setField(pdfCache, "enabled", true);
+        ReflectionTestUtils.setField(pdfCache, "maxBytes", maxBytes);
+        pdfCache.init();
+        return pdfCache;
+    }
+
+    private Path writePdf(String name, int size) throws IOException {
+        String header = "%PDF-1.4 " + name + " ";
+        return Files.writeString(outputDir.resolve(name), header + "x".repeat(size - header.length()));
+    }
+
+    private long countArtifacts() throws IOException {
+        try (var files = Files.list(outputDir.resolve(".pdf-cache"))) {
+            return files.count();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.resume.service;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class PdfCompileSchedulerTest {
+
+    private PdfCompileScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new PdfCompileScheduler();
+        ReflectionTestUtils.setField(scheduler, "configuredWorkers", 1);
+        ReflectionTestUtils.setField(scheduler, "queueCapacity", 1);
+        scheduler.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void testRejectsWhenQueueIsFull() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> runQuietly(() -> {
+            running.countDown();
+            release.await();
+            return "first";
+        }));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> runQuietly(() -> "queued"));
+        while (scheduler.getStats().getQueueDepth() == 0) {
+            Thread.onSpinWait();
+        }
+
+        PdfCompileRejectedException rejected = assertThrows(PdfCompileRejectedException.class,
+                () -> scheduler.run(() -> "rejected"));
+        assertTrue(rejected.getRetryAfterSeconds() >= 1);
+
+        release.countDown();
+        assertEquals("first", first.get(5, TimeUnit.SECONDS));
+        assertEquals("queued", queued.get(5, TimeUnit.SECONDS));
+        assertEquals(1, scheduler.getStats().getRejected());
+        assertEquals(2, scheduler.getStats().getCompleted());
+    }
+
+    private String runQuietly(Callable<String> compile) {
+        try {
+            return scheduler.run(compile);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.resume.service;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import com.resume.model.Experience;
+import com.resume.model.ExperienceBullet;
+import com.resume.model.ExperienceTechnology;
+import com.resume.model.Project;
+import com.resume.model.ProjectBullet;
+import com.resume.model.ProjectTechnology;
+import com.resume.model.User;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Loading a resume must cost the same number of SQL statements however many experiences and
+ * projects the user has. Runs against an in-memory H2 schema generated from the entities.
+ */
+@DataJpaTest
+@Import({ResumeGraphLoader.class, ExperienceService.class, ProjectService.class, ResumeSnapshotCache.class})
+@TestPropertySource(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ResumeQueryCountTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ResumeGraphLoader resumeGraphLoader;
+
+    @Autowired
+    private ExperienceService experienceService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        createUser("small", 1);
+        createUser("large", 12);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testResumeGraphQueryCountIsConstant() {
+        assertEquals(
+                countStatements(() -> touchGraph(resumeGraphLoader.load(findUser("small")))),
+                countStatements(() -> touchGraph(resumeGraphLoader.load(findUser("large")))));
+    }
+
+    @Test
+    void testProjectListQueryCountIsConstant() {
+        assertEquals(
+                countStatements(() -> touchProjects(projectService.getAllProjects("small"))),
+                countStatements(() -> touchProjects(projectService.getAllProjects("large"))));
+    }
+
+    @Test
+    void testLazyCollectionsAreBatchFetched() {
+        assertEquals(
+                countStatements(() -> touchProjects(projectService.getTopProjects("small", 20))),
+                countStatements(() -> touchProjects(projectService.getTopProjects("large", 20))));
+        assertEquals(
+                countStatements(() -> touchExperiences(experienceService.getAllExperiencesByDate("small"))),
+                countStatements(() -> touchExperiences(experienceService.getAllExperiencesByDate("large"))));
+    }
+
+    private long countStatements(Supplier<Integer> load) {
+        entityManager.clear();
+        statistics.clear();
+        int loaded = load.get();
+        long statements = statistics.getPrepareStatementCount();
+        assertEquals(0, loaded % 4);
+        return statements;
+    }
+
+    private int touchGraph(ResumeGraphLoader.ResumeGraph graph) {
+        return touchExperiences(graph.experiences()) + touchProjects(graph.projects());
+    }
+
+    private int touchExperiences(List<Experience> experiences) {
+        int size = 0;
+        for (Experience experience : experiences) {
+            size += experience.getBullets().size() + experience.getTechnologies().size();
+        }
+        return size;
+    }
+
+    private int touchProjects(List<Project> projects) {
+        int size = 0;
+        for (Project project : projects) {
+            size += project.getBullets().size() + project.getTechnologiesList().size();
+        }
+        return size;
+    }
+
+    private User findUser(String username) {
+        return entityManager.createQuery("SELECT u FROM User u WHERE u.username = :username", User.class)
+                .setParameter("username", username)
+                .getSingleResult();
+    }
+
+    private void createUser(String username, int blocks) {
+        User user = new User(username, "password123", username + "@example.com");
+        entityManager.persist(user);
+        for (int i = 0; i < blocks; i++) {
+            Experience experience = new Experience(user, "Engineer " + i, "Company " + i, "City", "2019-2021", "", 5);
+            experience.addBullet(new ExperienceBullet(experience, "Built things", 0));
+            experience.addBullet(new ExperienceBullet(experience, "Shipped things", 1));
+            experience.addTechnology(new ExperienceTechnology(experience, "Java"));
+            experience.addTechnology(new ExperienceTechnology(experience, "SQL"));
+            entityManager.persist(experience);
+
+            Project project = new Project(user, "Project " + i, "Java, SQL", null, i);
+            project.addBullet(new ProjectBullet(project, "Designed it", 0));
+            project.addBullet(new ProjectBullet(project, "Built it", 1));
+            project.addTechnology(new ProjectTechnology(project, "Java"));
+            project.addTechnology(new ProjectTechnology(project, "SQL"));
+            entityManager.persist(project);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.resume.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+import com.resume.model.ResumeBlock;
+import com.resume.model.ResumeData;
+
+class ResumeSnapshotCacheTest {
+
+    private final ResumeSnapshotCache snapshots = new ResumeSnapshotCache(true, 100, Duration.ofMinutes(10));
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void testServesSnapshotUntilInvalidated() {
+        ResumeData first = snapshots.get("alice", this::load);
+        assertSame(first, snapshots.get("alice", this::load));
+        assertEquals(1, loads.get());
+        assertThrows(UnsupportedOperationException.class, () -> first.getExperiences().add(new ResumeBlock()));
+
+        snapshots.invalidate("alice");
+        assertNotSame(first, snapshots.get("alice", this::load));
+        assertEquals(2, loads.get());
+
+        snapshots.get("bob", this::load);
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void testDoesNotStoreLoadThatOverlappedInvalidation() {
+        ResumeData stale = snapshots.get("alice", () -> {
+            // A write lands while the database read is in flight
+            snapshots.invalidate("alice");
+            return load();
+        });
+
+        ResumeData fresh = snapshots.get("alice", this::load);
+        assertNotSame(stale, fresh);
+        assertSame(fresh, snapshots.get("alice", this::load));
+        assertEquals(2, loads.get());
+    }
+
+    private ResumeData load() {
+        loads.incrementAndGet();
+        List<ResumeBlock> experiences = new ArrayList<>();
+        experiences.add(new ResumeBlock());
+        return new ResumeData(experiences, new ArrayList<>());
+    }
+}
@@ -0,0 +1,56 @@
+package com.resume.util;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.resume.util.DateRangeParser.DateRange;
+
+class DateRangeParserTest {
+
+    @Test
+    void testParsesCommonFormats() {
+        assertRange("Jan 2020 - Dec 2023", YearMonth.of(2020, 1), YearMonth.of(2023, 12));
+        assertRange("2019-2021", YearMonth.of(2019, 1), YearMonth.of(2021, 12));
+        assertRange("Aug. 2023--May 2025", YearMonth.of(2023, 8), YearMonth.of(2025, 5));
+        assertRange("March 2017 – April 2019", YearMonth.of(2017, 3), YearMonth.of(2019, 4));
+        assertRange("05/2019 to 11/2021", YearMonth.of(2019, 5), YearMonth.of(2021, 11));
+        assertRange("2023", YearMonth.of(2023, 1), YearMonth.of(2023, 12));
+        assertRange("Summer 2022", YearMonth.of(2022, 1), YearMonth.of(2022, 12));
+        assertRange("12345", null, null);
+
+        DateRange current = DateRangeParser.parse("Jan 2023--Present");
+        assertTrue(current.current());
+        assertEquals(YearMonth.of(2023, 1), current.start());
+        assertNull(current.end());
+        assertTrue(DateRangeParser.parse("Jun 2018 - now").current());
+        assertFalse(DateRangeParser.parse("Toronto 2018 - 2020").current());
+
+        assertSame(DateRangeParser.parse(null), DateRangeParser.parse("  "));
+        assertSame(DateRangeParser.parse("2019-2021"), DateRangeParser.parse("2019-2021"));
+    }
+
+    @Test
+    void testLatestFirstOrdering() {
+        List<String> ranges = new ArrayList<>(List.of(
+                "", "2019-2021", "Jun 2021 - Dec 2022", "Jan 2023--Present", "Mar 2021 - Jan 2022", "2016-2018"));
+        ranges.sort((a, b) -> DateRangeParser.LATEST_FIRST.compare(DateRangeParser.parse(a), DateRangeParser.parse(b)));
+
+        assertEquals(List.of(
+                "Jan 2023--Present", "Jun 2021 - Dec 2022", "Mar 2021 - Jan 2022", "2019-2021", "2016-2018", ""), ranges);
+    }
+
+    private static void assertRange(String text, YearMonth start, YearMonth end) {
+        DateRange range = DateRangeParser.parse(text);
+        assertEquals(start, range.start(), text);
+        assertEquals(end, range.end(), text);
+        assertFalse(range.current(), text);
+    }
+}
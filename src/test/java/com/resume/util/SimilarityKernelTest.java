@@ -0,0 +1,67 @@
+package com.resume.util;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.resume.model.EmbeddingVector;
+
+class SimilarityKernelTest {
+
+    private final Random random = new Random(42);
+
+    @Test
+    void testSimdMatchesScalarIncludingTail() {
+        // Surefire starts the JVM with the Vector API module, so the SIMD path is the one under test
+        assertTrue(SimilarityKernel.isSimdEnabled());
+
+        int lanes = SimdDotProduct.laneCount();
+        int[] lengths = {1, 3, lanes - 1, lanes + 1, 3 * lanes + 5, 255, 1537};
+        for (int length : lengths) {
+            float[] vector1 = randomVector(length);
+            float[] vector2 = randomVector(length);
+
+            double scalar = SimilarityKernel.scalarDot(vector1, vector2);
+            assertEquals(scalar, SimdDotProduct.dot(vector1, vector2), 1e-4 * Math.max(1.0, Math.abs(scalar)),
+                    "length " + length);
+            assertEquals(scalar, SimilarityKernel.dot(vector1, vector2), 1e-4 * Math.max(1.0, Math.abs(scalar)),
+                    "length " + length);
+        }
+    }
+
+    @Test
+    void testTailElementsAreCounted() {
+        int length = SimdDotProduct.laneCount() + 3;
+        float[] ones = new float[length];
+        float[] tailOnly = new float[length];
+        Arrays.fill(ones, 1f);
+        for (int i = length - 3; i < length; i++) {
+            tailOnly[i] = 2f;
+        }
+
+        assertEquals(6.0, SimdDotProduct.dot(ones, tailOnly));
+        assertEquals(6.0, SimilarityKernel.scalarDot(ones, tailOnly));
+    }
+
+    @Test
+    void testCosineOfNormalizedVectors() {
+        EmbeddingVector vector1 = EmbeddingVector.of(randomVector(1537)).normalized();
+        EmbeddingVector vector2 = EmbeddingVector.of(randomVector(1537)).normalized();
+
+        double expected = SimilarityKernel.scalarDot(vector1.values(), vector2.values());
+        assertEquals(expected, SimilarityKernel.cosine(vector1, vector2), 1e-5);
+        assertEquals(1.0, SimilarityKernel.cosine(vector1, vector1), 1e-5);
+        assertEquals(0.0, SimilarityKernel.cosine(vector1, EmbeddingVector.of(new float[3])));
+    }
+
+    private float[] randomVector(int length) {
+        float[] values = new float[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = random.nextFloat() * 2f - 1f;
+        }
+        return values;
+    }
+}